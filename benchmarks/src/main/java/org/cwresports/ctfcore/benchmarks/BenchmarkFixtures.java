@@ -0,0 +1,187 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.ChatManager;
+import org.cwresports.ctfcore.managers.ConfigManager;
+import org.cwresports.ctfcore.managers.HudManager;
+import org.cwresports.ctfcore.managers.LoadGovernorManager;
+import org.cwresports.ctfcore.managers.PerformanceManager;
+import org.cwresports.ctfcore.managers.WorldGuardManager;
+import org.cwresports.ctfcore.models.Arena;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Shared setup for benchmarks
+ * The server is a MockBukkit instance, the plugin is a Mockito stand-in wired to real managers
+ * with the bundled default configuration files
+ */
+final class BenchmarkFixtures {
+
+    static final String ARENA_NAME = "bench";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Start the mock server if it is not running yet
+     */
+    static ServerMock server() {
+        return MockBukkit.isMocked() ? MockBukkit.getMock() : MockBukkit.mock();
+    }
+
+    /**
+     * Stop the mock server
+     */
+    static void shutdown() {
+        if (MockBukkit.isMocked()) {
+            MockBukkit.unmock();
+        }
+    }
+
+    /**
+     * Create a plugin stand-in with real config, performance and chat managers
+     * Other managers are left to each benchmark
+     */
+    static CTFCore plugin(ServerMock server) throws Exception {
+        CTFCore plugin = mock(CTFCore.class);
+
+        Logger logger = Logger.getLogger("CTF-Core-Benchmark");
+        logger.setUseParentHandlers(false);
+
+        File dataFolder = Files.createTempDirectory("ctf-core-bench").toFile();
+        dataFolder.deleteOnExit();
+
+        when(plugin.getLogger()).thenReturn(logger);
+        when(plugin.getName()).thenReturn("CTF-Core");
+        when(plugin.isEnabled()).thenReturn(true);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        when(plugin.processPlaceholders(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        ConfigManager configManager = configManager(plugin);
+        when(plugin.getConfigManager()).thenReturn(configManager);
+
+        PerformanceManager performanceManager = new PerformanceManager(plugin);
+        when(plugin.getPerformanceManager()).thenReturn(performanceManager);
+
+        LoadGovernorManager loadGovernorManager = new LoadGovernorManager(plugin);
+        when(plugin.getLoadGovernorManager()).thenReturn(loadGovernorManager);
+
+        // Titles and action bars go through the HUD compositor
+        HudManager hudManager = new HudManager(plugin);
+        when(plugin.getHudManager()).thenReturn(hudManager);
+
+        // Games keep the chat audiences in sync as players join and change teams
+        ChatManager chatManager = new ChatManager(plugin);
+        when(plugin.getChatManager()).thenReturn(chatManager);
+
+        WorldGuardManager worldGuardManager = mock(WorldGuardManager.class);
+        when(worldGuardManager.isLocationInRegion(any(), any())).thenReturn(true);
+        when(plugin.getWorldGuardManager()).thenReturn(worldGuardManager);
+
+        // Arena.getWorld() resolves through the static instance
+        setField(CTFCore.class, null, "instance", plugin);
+
+        return plugin;
+    }
+
+    /**
+     * Create a config manager holding the default config, messages and scoreboards
+     */
+    static ConfigManager configManager(CTFCore plugin) throws Exception {
+        ConfigManager configManager = new ConfigManager(plugin);
+        Map<String, FileConfiguration> configs = getField(configManager, "configs");
+
+        configs.put("config.yml", loadResource("config.yml"));
+        configs.put("messages.yml", loadResource("messages.yml"));
+        configs.put("scoreboards.yml", loadResource("scoreboards.yml"));
+
+        YamlConfiguration playerData = new YamlConfiguration();
+        playerData.createSection("players");
+        configs.put("playerdata.yml", playerData);
+
+        return configManager;
+    }
+
+    private static YamlConfiguration loadResource(String name) throws Exception {
+        try (InputStream stream = CTFCore.class.getClassLoader().getResourceAsStream(name)) {
+            if (stream == null) {
+                throw new IllegalStateException("Missing bundled resource " + name);
+            }
+            return YamlConfiguration.loadConfiguration(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Create a fully configured two-team arena in a flat mock world
+     * Flags and capture points are 60 blocks apart along the x axis
+     */
+    static Arena arena(ServerMock server) {
+        WorldMock world = server.getWorld(ARENA_NAME) != null
+                ? (WorldMock) server.getWorld(ARENA_NAME)
+                : server.addSimpleWorld(ARENA_NAME);
+
+        Arena arena = new Arena(ARENA_NAME);
+        arena.setWorldName(ARENA_NAME);
+        arena.setWorldGuardRegion(ARENA_NAME);
+        arena.setLobbySpawn(new Location(world, 0, 65, 0));
+
+        setupTeam(arena.getTeam(Arena.TeamColor.RED), world, -30);
+        setupTeam(arena.getTeam(Arena.TeamColor.BLUE), world, 30);
+        arena.setEnabled(true);
+
+        return arena;
+    }
+
+    private static void setupTeam(Arena.Team team, WorldMock world, int baseX) {
+        team.setFlagLocation(new Location(world, baseX, 65, 0));
+        team.setCapturePoint(new Location(world, baseX, 65, 4));
+        for (int i = 0; i < 4; i++) {
+            team.setSpawnPoint(i, new Location(world, baseX + (baseX < 0 ? -4 : 4), 65, i * 3 - 4));
+        }
+    }
+
+    /**
+     * Resolve a private method as a method handle so it can be called from a benchmark loop
+     */
+    static MethodHandle privateMethod(Class<?> owner, String name, Class<?>... parameterTypes) throws Exception {
+        Method method = owner.getDeclaredMethod(name, parameterTypes);
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T getField(Object target, String name) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return (T) field.get(target);
+    }
+
+    static void setField(Class<?> owner, Object target, String name, Object value) throws Exception {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,82 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.BlockTrackingManager;
+import org.cwresports.ctfcore.models.Arena;
+import org.cwresports.ctfcore.models.CTFGame;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full game's block journal: tracking player-placed and player-broken blocks, then restoring the arena
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockTrackingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int blocks;
+
+    private BlockTrackingManager blockTrackingManager;
+    private CTFGame game;
+    private Arena arena;
+    private PlayerMock player;
+    private Block[] placed;
+    private Block[] broken;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ServerMock server = BenchmarkFixtures.server();
+        CTFCore plugin = BenchmarkFixtures.plugin(server);
+
+        arena = BenchmarkFixtures.arena(server);
+        game = new CTFGame(arena, plugin);
+        player = server.addPlayer();
+        blockTrackingManager = new BlockTrackingManager(plugin);
+
+        // Three quarters placed above ground, one quarter dug out of the floor
+        World world = arena.getWorld();
+        int brokenCount = blocks / 4;
+        placed = new Block[blocks - brokenCount];
+        broken = new Block[brokenCount];
+        for (int i = 0; i < placed.length; i++) {
+            placed[i] = world.getBlockAt(i % 100 - 50, 66 + i / 10000, (i / 100) % 100 - 50);
+        }
+        for (int i = 0; i < broken.length; i++) {
+            broken[i] = world.getBlockAt(i % 100 - 50, 60, (i / 100) % 100 - 50);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.shutdown();
+    }
+
+    @Benchmark
+    public int trackAndRestore() {
+        blockTrackingManager.startTrackingForGame(game);
+
+        for (Block block : placed) {
+            block.setType(Material.COBBLESTONE);
+            blockTrackingManager.trackPlacedBlock(player, block, arena);
+        }
+        for (Block block : broken) {
+            blockTrackingManager.trackBrokenBlock(player, block, arena);
+            block.setType(Material.AIR);
+        }
+
+        int tracked = blockTrackingManager.getTrackedBlockCount(arena.getName());
+        blockTrackingManager.stopTrackingAndRestore(game);
+        return tracked;
+    }
+}
@@ -0,0 +1,77 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.ColorTranslator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass ColorTranslator against the previous regex and replace chain
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColorTranslatorBenchmark {
+
+    @Param({"plain", "legacy", "hex", "gradient"})
+    public String input;
+
+    // Consecutive hex codes grow the most, one per character as gradient text is written
+    private static final String GRADIENT = "&#FF0000C&#FF3300A&#FF6600P&#FF9900T&#FFCC00U&#FFFF00R&#CCFF00E&#99FF00D";
+
+    private ColorTranslator colorTranslator;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        text = switch (input) {
+            case "plain" -> "Capture the enemy flag and bring it home";
+            case "legacy" -> "&e[CTF] &r&a&lCAPTURING FLAG &7- &e&l3 &eseconds remaining &8| &cRed &f2 &7- &9Blue &f1";
+            case "hex" -> "&#FF5555&lRED &#AAAAAA- &#5555FF&lBLUE &r&7(&e2&7/&e3&7) &#55FF55Captured!";
+            case "gradient" -> GRADIENT;
+            default -> throw new IllegalArgumentException("Unknown input: " + input);
+        };
+        colorTranslator = new ColorTranslator();
+
+        // Both implementations must agree on every bundled message before timing anything
+        CTFCore plugin = BenchmarkFixtures.plugin(BenchmarkFixtures.server());
+        FileConfiguration messages = plugin.getConfigManager().getConfig("messages.yml");
+        for (String key : messages.getKeys(true)) {
+            if (messages.isString(key)) {
+                verify(messages.getString(key));
+            }
+        }
+        verify(text);
+        verify(GRADIENT);
+        verify("&#FF0000&#FF3300&#FF6600&#FF9900&#FFCC00&#FFFF00");
+        BenchmarkFixtures.shutdown();
+    }
+
+    private static void verify(String value) {
+        String expected = LegacyColorProcessing.process(value);
+        String actual = ColorTranslator.translate(value);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Color output differs for '" + value + "': '" + expected + "' vs '" + actual + "'");
+        }
+    }
+
+    @Benchmark
+    public String regexChain() {
+        return LegacyColorProcessing.process(text);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return ColorTranslator.translate(text);
+    }
+
+    @Benchmark
+    public String singlePassCached() {
+        return colorTranslator.translateCached(text);
+    }
+}
@@ -0,0 +1,69 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.HologramLeaderboardManager;
+import org.cwresports.ctfcore.models.LeaderboardType;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaderboard recompute from playerdata.yml, as run by the periodic hologram update
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+public class LeaderboardBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int players;
+
+    @Param({"KILLS", "LEVEL"})
+    public LeaderboardType type;
+
+    private HologramLeaderboardManager leaderboardManager;
+    private MethodHandle calculateTopPlayers;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        CTFCore plugin = BenchmarkFixtures.plugin(BenchmarkFixtures.server());
+
+        FileConfiguration playerData = plugin.getConfigManager().getConfig("playerdata.yml");
+        ConfigurationSection section = playerData.getConfigurationSection("players");
+        Random random = new Random(42);
+        for (int i = 0; i < players; i++) {
+            ConfigurationSection player = section.createSection(new UUID(random.nextLong(), random.nextLong()).toString());
+            player.set("level", 1 + random.nextInt(100));
+            player.set("experience", random.nextInt(5000));
+            player.set("total_kills", random.nextInt(10000));
+            player.set("total_deaths", random.nextInt(10000));
+            player.set("total_captures", random.nextInt(1000));
+            player.set("total_flag_returns", random.nextInt(1000));
+            player.set("games_played", random.nextInt(2000));
+            player.set("games_won", random.nextInt(1000));
+        }
+
+        leaderboardManager = new HologramLeaderboardManager(plugin);
+        calculateTopPlayers = BenchmarkFixtures.privateMethod(HologramLeaderboardManager.class, "calculateTopPlayers",
+                LeaderboardType.class, int.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        leaderboardManager.cleanup();
+        BenchmarkFixtures.shutdown();
+    }
+
+    @Benchmark
+    public Object recomputeTop15() throws Throwable {
+        return calculateTopPlayers.invoke(leaderboardManager, type, 15);
+    }
+}
@@ -0,0 +1,55 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import org.bukkit.ChatColor;
+
+import java.util.regex.Pattern;
+
+/**
+ * The regex and replace chain MessageManager used before ColorTranslator, kept as a baseline
+ */
+final class LegacyColorProcessing {
+
+    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+    private static final String[] COLOR_CODES = {
+            "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "a", "b", "c", "d", "e", "f",
+            "l", "m", "n", "o", "r", "k", "A", "B", "C", "D", "E", "F", "L", "M", "N", "O", "R", "K"
+    };
+
+    private LegacyColorProcessing() {
+    }
+
+    static String process(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        if (text.contains("&#")) {
+            text = HEX_PATTERN.matcher(text).replaceAll(match -> {
+                String hexCode = match.group(1);
+                return "§x§" + hexCode.charAt(0) + "§" + hexCode.charAt(1) + "§" +
+                       hexCode.charAt(2) + "§" + hexCode.charAt(3) + "§" +
+                       hexCode.charAt(4) + "§" + hexCode.charAt(5);
+            });
+        }
+
+        text = ChatColor.translateAlternateColorCodes('&', text);
+
+        for (String code : COLOR_CODES) {
+            text = text.replace("&" + code, "§" + code.toLowerCase());
+        }
+
+        text = text.replace("§l§c", "§c§l");
+        text = text.replace("§l§a", "§a§l");
+        text = text.replace("§l§e", "§e§l");
+        text = text.replace("§l§b", "§b§l");
+        text = text.replace("§l§d", "§d§l");
+        text = text.replace("§l§f", "§f§l");
+        text = text.replace("§l§6", "§6§l");
+        text = text.replace("§l§9", "§9§l");
+        text = text.replace("§r§l", "§r§l");
+        text = text.replace("§r§c", "§r§c");
+        text = text.replace("§r§a", "§r§a");
+
+        return text;
+    }
+}
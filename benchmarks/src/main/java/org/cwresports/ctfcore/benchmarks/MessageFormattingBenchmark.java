@@ -0,0 +1,95 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.ConfigManager;
+import org.cwresports.ctfcore.managers.MessageManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message lookup and color processing as used by chat broadcasts, titles and boss bars
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageFormattingBenchmark {
+
+    private ConfigManager configManager;
+    private MessageManager messageManager;
+    private MethodHandle enhancedColorProcessing;
+    private Map<String, String> placeholders;
+    private String plainText;
+    private String legacyText;
+    private String hexText;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        CTFCore plugin = BenchmarkFixtures.plugin(BenchmarkFixtures.server());
+        configManager = plugin.getConfigManager();
+        messageManager = new MessageManager(plugin);
+        enhancedColorProcessing = BenchmarkFixtures.privateMethod(MessageManager.class, "enhancedColorProcessing", String.class);
+
+        placeholders = new HashMap<>();
+        placeholders.put("player", "Notch");
+        placeholders.put("team_color", "§c");
+        placeholders.put("enemy_color", "§9");
+        placeholders.put("enemy_team", "blue");
+        placeholders.put("team_score", "2");
+        placeholders.put("flags_to_win", "3");
+
+        plainText = "Capture the enemy flag and bring it home";
+        legacyText = "&e[CTF] &r&a&lCAPTURING FLAG &7- &e&l3 &eseconds remaining &8| &cRed &f2 &7- &9Blue &f1";
+        hexText = "&#FF5555&lRED &#AAAAAA- &#5555FF&lBLUE &r&7(&e2&7/&e3&7) &#55FF55Captured!";
+
+        // A prefixed MiniMessage message must still parse its tags next to the legacy prefix
+        configManager.getMessages().set("benchmark-minimessage", "<gradient:red:gold>Flag captured!</gradient> {player}");
+        String rendered = PlainTextComponentSerializer.plainText().serialize(getMessageComponentMiniMessage());
+        if (!rendered.equals("[CTF] Flag captured! Notch")) {
+            throw new IllegalStateException("Prefixed MiniMessage rendered as '" + rendered + "'");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.shutdown();
+    }
+
+    @Benchmark
+    public String getMessageWithPlaceholders() {
+        return configManager.getMessage("flag-captured", placeholders);
+    }
+
+    @Benchmark
+    public String getMessageWithoutPlaceholders() {
+        return configManager.getMessage("title-capturing-flag");
+    }
+
+    @Benchmark
+    public Component getMessageComponentMiniMessage() {
+        return configManager.getMessageComponent("benchmark-minimessage", placeholders);
+    }
+
+    @Benchmark
+    public String colorProcessingPlain() throws Throwable {
+        return (String) enhancedColorProcessing.invokeExact(messageManager, plainText);
+    }
+
+    @Benchmark
+    public String colorProcessingLegacy() throws Throwable {
+        return (String) enhancedColorProcessing.invokeExact(messageManager, legacyText);
+    }
+
+    @Benchmark
+    public String colorProcessingHex() throws Throwable {
+        return (String) enhancedColorProcessing.invokeExact(messageManager, hexText);
+    }
+}
@@ -0,0 +1,56 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.cwresports.ctfcore.models.CTFPlayer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CTFPlayer.getPlayer() through the cached handle compared with a UUID lookup on a populated server
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerLookupBenchmark {
+
+    @Param({"16", "200"})
+    public int onlinePlayers;
+
+    private CTFPlayer ctfPlayer;
+    private UUID playerId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ServerMock server = BenchmarkFixtures.server();
+        PlayerMock player = server.addPlayer();
+        for (int i = 1; i < onlinePlayers; i++) {
+            server.addPlayer();
+        }
+
+        ctfPlayer = new CTFPlayer(player);
+        playerId = player.getUniqueId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.shutdown();
+    }
+
+    @Benchmark
+    public Player cachedHandle() {
+        return ctfPlayer.getPlayer();
+    }
+
+    @Benchmark
+    public Player uuidLookup() {
+        return Bukkit.getPlayer(playerId);
+    }
+}
@@ -0,0 +1,107 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Location;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.listeners.PlayerMoveListener;
+import org.cwresports.ctfcore.managers.GameManager;
+import org.cwresports.ctfcore.managers.PowerUpManager;
+import org.cwresports.ctfcore.models.Arena;
+import org.cwresports.ctfcore.models.CTFGame;
+import org.cwresports.ctfcore.models.CTFPlayer;
+import org.cwresports.ctfcore.models.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PlayerMoveListener.onPlayerMove for a player crossing block boundaries mid-game
+ * The player walks back and forth away from flags, capture points and power-ups so
+ * every call runs the full set of checks without triggering a pickup or capture
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerMoveBenchmark {
+
+    @Param({"walker", "carrier"})
+    public String role;
+
+    @Param({"0", "4"})
+    public int powerUps;
+
+    @Param({"false", "true"})
+    public boolean instantBreak;
+
+    private PlayerMoveListener listener;
+    private PlayerMoveEvent forward;
+    private PlayerMoveEvent back;
+    private boolean flip;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ServerMock server = BenchmarkFixtures.server();
+        CTFCore plugin = BenchmarkFixtures.plugin(server);
+        plugin.getConfigManager().getMainConfig().set("flag-capture.instant-break", instantBreak);
+
+        Arena arena = BenchmarkFixtures.arena(server);
+        CTFGame game = new CTFGame(arena, plugin);
+        game.setState(GameState.PLAYING);
+
+        PlayerMock player = server.addPlayer();
+        CTFPlayer ctfPlayer = new CTFPlayer(player);
+        ctfPlayer.setTeam(Arena.TeamColor.RED);
+        game.addPlayer(ctfPlayer);
+        if ("carrier".equals(role)) {
+            ctfPlayer.setCarryingFlag(game.getFlag(Arena.TeamColor.BLUE));
+        }
+
+        GameManager gameManager = mock(GameManager.class);
+        when(gameManager.getCTFPlayer(player)).thenReturn(ctfPlayer);
+        when(plugin.getGameManager()).thenReturn(gameManager);
+
+        PowerUpManager powerUpManager = new PowerUpManager(plugin);
+        when(plugin.getPowerUpManager()).thenReturn(powerUpManager);
+        if (powerUps > 0) {
+            List<PowerUpManager.PowerUp> active = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < powerUps; i++) {
+                Location location = new Location(arena.getWorld(), -10 + i * 6, 65, 20);
+                active.add(new PowerUpManager.PowerUp(PowerUpManager.PowerUpType.values()[i % PowerUpManager.PowerUpType.values().length], location, plugin));
+            }
+            Map<CTFGame, List<PowerUpManager.PowerUp>> activePowerUps = BenchmarkFixtures.getField(powerUpManager, "activePowerUps");
+            activePowerUps.put(game, active);
+        }
+
+        listener = new PlayerMoveListener(plugin);
+
+        Location from = new Location(arena.getWorld(), 0.5, 65, -10.5);
+        Location to = new Location(arena.getWorld(), 1.5, 65, -10.5);
+        player.setLocation(to);
+        forward = new PlayerMoveEvent(player, from, to);
+        back = new PlayerMoveEvent(player, to.clone(), from.clone());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.shutdown();
+    }
+
+    @Benchmark
+    public boolean onPlayerMove() {
+        PlayerMoveEvent event = (flip = !flip) ? forward : back;
+        event.setCancelled(false);
+        listener.onPlayerMove(event);
+        return event.isCancelled();
+    }
+}
@@ -0,0 +1,78 @@
+package org.cwresports.ctfcore.benchmarks;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.AdminToolManager;
+import org.cwresports.ctfcore.managers.CurrencyManager;
+import org.cwresports.ctfcore.managers.GameManager;
+import org.cwresports.ctfcore.managers.ScoreboardManager;
+import org.cwresports.ctfcore.models.Arena;
+import org.cwresports.ctfcore.models.CTFGame;
+import org.cwresports.ctfcore.models.CTFPlayer;
+import org.cwresports.ctfcore.models.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Full sidebar render for one player using the bundled scoreboards.yml layouts
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreboardRenderBenchmark {
+
+    @Param({"lobby", "game-lobby", "game-playing"})
+    public String layout;
+
+    private ScoreboardManager scoreboardManager;
+    private PlayerMock player;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ServerMock server = BenchmarkFixtures.server();
+        CTFCore plugin = BenchmarkFixtures.plugin(server);
+
+        when(plugin.getAdminToolManager()).thenReturn(mock(AdminToolManager.class));
+        when(plugin.getCurrencyManager()).thenReturn(mock(CurrencyManager.class));
+
+        GameManager gameManager = mock(GameManager.class);
+        when(plugin.getGameManager()).thenReturn(gameManager);
+
+        player = server.addPlayer();
+        if (!"lobby".equals(layout)) {
+            CTFGame game = new CTFGame(BenchmarkFixtures.arena(server), plugin);
+            game.setState("game-lobby".equals(layout) ? GameState.WAITING : GameState.PLAYING);
+            game.startClock(425);
+
+            CTFPlayer ctfPlayer = new CTFPlayer(player, 12, 340);
+            ctfPlayer.setTeam(Arena.TeamColor.RED);
+            game.addPlayer(ctfPlayer);
+            if (game.getState() == GameState.PLAYING) {
+                ctfPlayer.setCarryingFlag(game.getFlag(Arena.TeamColor.BLUE));
+            }
+
+            when(gameManager.getCTFPlayer(player)).thenReturn(ctfPlayer);
+        }
+
+        scoreboardManager = new ScoreboardManager(plugin);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scoreboardManager.shutdown();
+        BenchmarkFixtures.shutdown();
+    }
+
+    @Benchmark
+    public void updatePlayerScoreboard() {
+        scoreboardManager.updatePlayerScoreboard(player);
+    }
+}
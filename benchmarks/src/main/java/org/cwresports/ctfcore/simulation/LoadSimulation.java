@@ -0,0 +1,474 @@
+package org.cwresports.ctfcore.simulation;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
+import org.cwresports.ctfcore.managers.WorldGuardManager;
+import org.cwresports.ctfcore.models.Arena;
+import org.cwresports.ctfcore.models.CTFFlag;
+import org.cwresports.ctfcore.models.CTFGame;
+import org.cwresports.ctfcore.models.CTFPlayer;
+import org.cwresports.ctfcore.models.GameState;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * Headless load simulation that drives full matches with synthetic players
+ * The real plugin runs on a MockBukkit server; bots join through autojoin, walk to flags,
+ * break them, carry them home and fight. Tick time and allocations are reported per phase,
+ * alongside the plugin's own task and listener timers
+ *
+ * Usage: java -cp target/benchmarks.jar org.cwresports.ctfcore.simulation.LoadSimulation
+ *        [--arenas 20] [--players 320] [--ticks 6000] [--seed 1] [--arenas-file arenas.yml] [--fast]
+ */
+public final class LoadSimulation {
+
+    private static final double STEP = 0.3; // Blocks per tick, roughly sprinting speed
+    private static final double ATTACK_RANGE_SQUARED = 4.0 * 4.0;
+    private static final double FLAG_REACH_SQUARED = 1.5 * 1.5;
+    private static final long TICK_NANOS = 50_000_000L;
+    private static final String[] PHASES = {"join", "respawn", "move", "flags", "combat", "scheduler"};
+
+    private final Options options;
+    private final Random random;
+    private final List<SyntheticPlayer> bots;
+    private final Set<String> arenasPlayed;
+    private final com.sun.management.ThreadMXBean threads;
+    private final Map<String, PerformanceManager.Timer> phaseTimers;
+    private final Map<String, Long> phaseAllocations;
+
+    private ServerMock server;
+    private CTFCore plugin;
+    private PerformanceManager.Timer tickTimer;
+    private int tick;
+    private long wallNanos;
+
+    /**
+     * Command line options
+     */
+    private static class Options {
+        private int arenas = 20;
+        private int players = 320;
+        private int ticks = 6000;
+        private long seed = 1;
+        private int joinsPerTick = 8;
+        private File arenasFile;
+        private boolean realtime = true;
+
+        public static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--arenas" -> options.arenas = Integer.parseInt(args[++i]);
+                    case "--players" -> options.players = Integer.parseInt(args[++i]);
+                    case "--ticks" -> options.ticks = Integer.parseInt(args[++i]);
+                    case "--seed" -> options.seed = Long.parseLong(args[++i]);
+                    case "--joins-per-tick" -> options.joinsPerTick = Integer.parseInt(args[++i]);
+                    case "--arenas-file" -> options.arenasFile = new File(args[++i]);
+                    case "--fast" -> options.realtime = false;
+                    default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+            return options;
+        }
+    }
+
+    /**
+     * A bot and its per-bot schedule
+     */
+    private static class SyntheticPlayer {
+        private final PlayerMock player;
+        private int nextAutojoinTick;
+
+        public SyntheticPlayer(PlayerMock player, int nextAutojoinTick) {
+            this.player = player;
+            this.nextAutojoinTick = nextAutojoinTick;
+        }
+    }
+
+    private LoadSimulation(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+        this.bots = new ArrayList<>();
+        this.arenasPlayed = new HashSet<>();
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.phaseTimers = new LinkedHashMap<>();
+        this.phaseAllocations = new LinkedHashMap<>();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadSimulation simulation = new LoadSimulation(Options.parse(args));
+        try {
+            simulation.start();
+            simulation.run();
+            simulation.report(System.out);
+        } finally {
+            MockBukkit.unmock();
+        }
+    }
+
+    /**
+     * Boot the mock server, load the plugin and its arenas
+     */
+    private void start() throws Exception {
+        server = MockBukkit.mock();
+        MockBukkit.createMockPlugin("WorldEdit");
+        MockBukkit.createMockPlugin("WorldGuard");
+        plugin = MockBukkit.load(CTFCore.class);
+
+        // There is no WorldGuard platform in process, treat every arena region as covering its world
+        setField(plugin, "worldGuardManager", new WorldGuardManager() {
+            @Override
+            public boolean isLocationInRegion(Location location, String regionName) {
+                return location != null && location.getWorld() != null && regionName != null;
+            }
+        });
+
+        YamlConfiguration arenas = options.arenasFile != null
+                ? YamlConfiguration.loadConfiguration(options.arenasFile)
+                : generateArenas(options.arenas);
+
+        ConfigurationSection arenasSection = arenas.getConfigurationSection("arenas");
+        if (arenasSection == null) {
+            throw new IllegalStateException("No arenas section in arenas file");
+        }
+        for (String arenaName : arenasSection.getKeys(false)) {
+            String worldName = arenasSection.getString(arenaName + ".world_name");
+            if (worldName != null && server.getWorld(worldName) == null) {
+                server.addSimpleWorld(worldName);
+            }
+        }
+
+        arenas.save(new File(plugin.getDataFolder(), "arenas.yml"));
+        plugin.getConfigManager().loadConfig("arenas.yml");
+        plugin.getArenaManager().loadArenas();
+
+        PerformanceManager performanceManager = plugin.getPerformanceManager();
+        tickTimer = performanceManager.timer("simulation.tick");
+        for (String phase : PHASES) {
+            phaseTimers.put(phase, performanceManager.timer("simulation." + phase));
+            phaseAllocations.put(phase, 0L);
+        }
+    }
+
+    /**
+     * Build an arenas.yml with one fully configured arena per world
+     * Bases sit 60 blocks apart with capture points next to each flag
+     */
+    private YamlConfiguration generateArenas(int count) {
+        YamlConfiguration config = new YamlConfiguration();
+        for (int i = 0; i < count; i++) {
+            String path = "arenas.sim" + i;
+            config.set(path + ".enabled", true);
+            config.set(path + ".worldguard_region", "sim" + i);
+            config.set(path + ".world_name", "sim_world_" + i);
+            config.set(path + ".lobby_spawn", "0.5,65.0,0.5,0.0,0.0");
+
+            for (Arena.TeamColor color : Arena.TeamColor.values()) {
+                int baseX = color == Arena.TeamColor.RED ? -30 : 30;
+                String teamPath = path + ".teams." + color.getName();
+                for (int spawn = 1; spawn <= 4; spawn++) {
+                    config.set(teamPath + ".spawn_points." + spawn,
+                            (baseX + Integer.signum(baseX) * 5) + ".5,65.0," + (spawn * 3 - 7) + ".5,0.0,0.0");
+                }
+                config.set(teamPath + ".flag_location", baseX + ".5,65.0,0.5,0.0,0.0");
+                config.set(teamPath + ".capture_point", baseX + ".5,65.0,4.5,0.0,0.0");
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Drive the server for the configured number of ticks
+     */
+    private void run() {
+        long runStart = System.nanoTime();
+
+        for (tick = 0; tick < options.ticks; tick++) {
+            long tickStart = System.nanoTime();
+
+            runPhase("join", this::joinPlayers);
+            runPhase("respawn", this::respawnPlayers);
+            runPhase("move", this::movePlayers);
+            runPhase("flags", this::breakFlags);
+            runPhase("combat", this::fight);
+            runPhase("scheduler", () -> server.getScheduler().performOneTick());
+
+            tickTimer.record(tickStart);
+            trackArenas();
+
+            if (options.realtime) {
+                long remaining = TICK_NANOS - (System.nanoTime() - tickStart);
+                if (remaining > 0) {
+                    try {
+                        Thread.sleep(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+
+        server.getScheduler().waitAsyncTasksFinished();
+        wallNanos = System.nanoTime() - runStart;
+    }
+
+    /**
+     * Run one phase, recording its time and the bytes it allocated on this thread
+     */
+    private void runPhase(String phase, Runnable action) {
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            phaseTimers.get(phase).record(start);
+            phaseAllocations.merge(phase, threads.getCurrentThreadAllocatedBytes() - allocatedBefore, Long::sum);
+        }
+    }
+
+    /**
+     * Connect new bots and send idle ones through autojoin
+     */
+    private void joinPlayers() {
+        for (int i = 0; i < options.joinsPerTick && bots.size() < options.players; i++) {
+            bots.add(new SyntheticPlayer(server.addPlayer(), tick + 20 + random.nextInt(40)));
+        }
+
+        for (SyntheticPlayer bot : bots) {
+            if (tick < bot.nextAutojoinTick || plugin.getGameManager().getCTFPlayer(bot.player) != null) {
+                continue;
+            }
+            plugin.getAutojoinManager().handleAutojoin(bot.player);
+            bot.nextAutojoinTick = tick + 100 + random.nextInt(60); // Autojoin has a 3 second cooldown
+        }
+    }
+
+    /**
+     * Respawn dead bots
+     */
+    private void respawnPlayers() {
+        for (SyntheticPlayer bot : bots) {
+            if (bot.player.isDead()) {
+                bot.player.respawn();
+            }
+        }
+    }
+
+    /**
+     * Step every playing bot toward its objective
+     */
+    private void movePlayers() {
+        for (SyntheticPlayer bot : bots) {
+            CTFPlayer ctfPlayer = playingPlayer(bot);
+            if (ctfPlayer == null) {
+                continue;
+            }
+
+            Location current = bot.player.getLocation();
+            Location target = objective(ctfPlayer, current);
+            if (target == null || !target.getWorld().equals(current.getWorld())) {
+                continue;
+            }
+
+            double dx = target.getX() - current.getX() + (random.nextDouble() - 0.5);
+            double dz = target.getZ() - current.getZ() + (random.nextDouble() - 0.5);
+            double length = Math.sqrt(dx * dx + dz * dz);
+            if (length < 0.01) {
+                continue;
+            }
+
+            double step = Math.min(STEP, length);
+            Location next = current.clone().add(dx / length * step, 0, dz / length * step);
+            bot.player.simulatePlayerMove(next);
+        }
+    }
+
+    /**
+     * Pick where a bot wants to go: home with a flag, the enemy flag if it is at base, otherwise the nearest enemy
+     */
+    private Location objective(CTFPlayer ctfPlayer, Location current) {
+        CTFGame game = ctfPlayer.getGame();
+        Arena arena = game.getArena();
+
+        if (ctfPlayer.hasFlag()) {
+            return arena.getTeam(ctfPlayer.getTeam()).getCapturePoint();
+        }
+
+        Arena.TeamColor enemyTeam = enemyOf(ctfPlayer.getTeam());
+        CTFFlag enemyFlag = game.getFlag(enemyTeam);
+        if (enemyFlag != null && enemyFlag.isAtBase()) {
+            return enemyFlag.getBaseLocation();
+        }
+
+        PlayerMock nearest = nearestEnemy(ctfPlayer, current, Double.MAX_VALUE);
+        return nearest != null ? nearest.getLocation() : arena.getTeam(ctfPlayer.getTeam()).getFlagLocation();
+    }
+
+    /**
+     * Break the enemy flag when standing next to it
+     */
+    private void breakFlags() {
+        for (SyntheticPlayer bot : bots) {
+            CTFPlayer ctfPlayer = playingPlayer(bot);
+            if (ctfPlayer == null || ctfPlayer.hasFlag()) {
+                continue;
+            }
+
+            CTFFlag enemyFlag = ctfPlayer.getGame().getFlag(enemyOf(ctfPlayer.getTeam()));
+            if (enemyFlag == null || !enemyFlag.isAtBase()) {
+                continue;
+            }
+
+            Location base = enemyFlag.getBaseLocation();
+            if (bot.player.getLocation().distanceSquared(base) <= FLAG_REACH_SQUARED) {
+                bot.player.simulateBlockBreak(base.getBlock());
+            }
+        }
+    }
+
+    /**
+     * Let bots hit enemies in melee range now and then
+     */
+    private void fight() {
+        for (SyntheticPlayer bot : bots) {
+            if (random.nextInt(10) != 0) {
+                continue;
+            }
+
+            CTFPlayer ctfPlayer = playingPlayer(bot);
+            if (ctfPlayer == null) {
+                continue;
+            }
+
+            PlayerMock target = nearestEnemy(ctfPlayer, bot.player.getLocation(), ATTACK_RANGE_SQUARED);
+            if (target != null && !target.isDead()) {
+                target.damage(3.0 + random.nextDouble() * 4.0, bot.player);
+            }
+        }
+    }
+
+    private PlayerMock nearestEnemy(CTFPlayer ctfPlayer, Location from, double maxDistanceSquared) {
+        PlayerMock nearest = null;
+        double nearestDistance = maxDistanceSquared;
+
+        for (CTFPlayer enemy : ctfPlayer.getGame().getPlayersOnTeam(enemyOf(ctfPlayer.getTeam()))) {
+            if (!(enemy.getPlayer() instanceof PlayerMock enemyPlayer) || !enemy.isAlive() ||
+                    !enemyPlayer.getWorld().equals(from.getWorld())) {
+                continue;
+            }
+
+            double distance = enemyPlayer.getLocation().distanceSquared(from);
+            if (distance < nearestDistance) {
+                nearest = enemyPlayer;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Get the bot's CTF player if it is alive in a running match
+     */
+    private CTFPlayer playingPlayer(SyntheticPlayer bot) {
+        if (bot.player.isDead()) {
+            return null;
+        }
+
+        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(bot.player);
+        if (ctfPlayer == null || !ctfPlayer.isInGame() || ctfPlayer.getTeam() == null || !ctfPlayer.isAlive()) {
+            return null;
+        }
+
+        CTFGame game = ctfPlayer.getGame();
+        return game != null && game.getState() == GameState.PLAYING ? ctfPlayer : null;
+    }
+
+    private Arena.TeamColor enemyOf(Arena.TeamColor team) {
+        return team == Arena.TeamColor.RED ? Arena.TeamColor.BLUE : Arena.TeamColor.RED;
+    }
+
+    private void trackArenas() {
+        if (tick % 20 != 0) {
+            return;
+        }
+        for (CTFGame game : plugin.getGameManager().getActiveGames()) {
+            if (game.getState() == GameState.PLAYING) {
+                arenasPlayed.add(game.getArena().getName());
+            }
+        }
+    }
+
+    /**
+     * Print tick time percentiles, per-phase allocation rates and the plugin's own timers
+     */
+    private void report(PrintStream out) {
+        PerformanceManager performanceManager = plugin.getPerformanceManager();
+        double simulatedSeconds = tick / 20.0;
+
+        out.println();
+        out.printf("CTF-Core load simulation: %d arenas, %d players, %d ticks (%.1fs simulated, %.1fs wall)%n",
+                plugin.getArenaManager().getEnabledArenas().size(), bots.size(), tick,
+                simulatedSeconds, wallNanos / 1_000_000_000.0);
+        out.printf("Arenas that reached PLAYING: %d, players online: %d%n",
+                arenasPlayed.size(), server.getOnlinePlayers().size());
+
+        out.println();
+        out.println("Tick time:");
+        out.println("  " + performanceManager.formatTimer(tickTimer));
+
+        out.println();
+        out.println("Phases:");
+        for (String phase : PHASES) {
+            PerformanceManager.Timer timer = phaseTimers.get(phase);
+            long allocated = phaseAllocations.get(phase);
+            out.printf("  %-10s p50=%s p95=%s p99=%s max=%s alloc/tick=%s alloc=%.2f MB/s%n",
+                    phase,
+                    PerformanceManager.formatNanos(timer.getPercentile(50)),
+                    PerformanceManager.formatNanos(timer.getPercentile(95)),
+                    PerformanceManager.formatNanos(timer.getPercentile(99)),
+                    PerformanceManager.formatNanos(timer.getMaxNanos()),
+                    formatBytes(tick == 0 ? 0 : allocated / tick),
+                    simulatedSeconds == 0 ? 0 : allocated / simulatedSeconds / 1_000_000.0);
+        }
+
+        out.println();
+        out.println("Plugin subsystems (by total time):");
+        for (PerformanceManager.Timer timer : performanceManager.getTimersByTotalTime()) {
+            if (!timer.getName().startsWith("simulation.") && timer.getCount() > 0) {
+                out.println("  " + performanceManager.formatTimer(timer));
+            }
+        }
+
+        out.println();
+        out.println("Counters:");
+        for (Map.Entry<String, Long> entry : performanceManager.getCounterSnapshot().entrySet()) {
+            out.println("  " + entry.getKey() + ": " + entry.getValue());
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024L) {
+            return bytes + "B";
+        } else if (bytes < 1024L * 1024L) {
+            return String.format("%.1fKB", bytes / 1024.0);
+        }
+        return String.format("%.2fMB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
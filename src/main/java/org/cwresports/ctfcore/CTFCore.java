@@ -35,6 +35,8 @@ public class CTFCore extends JavaPlugin {
     private ServerLobbyManager serverLobbyManager;
     private AutojoinManager autojoinManager;
     private MessageManager messageManager;
+    private HudManager hudManager;
+    private ListenerGateManager listenerGateManager;
     private PowerUpManager powerUpManager;
     private SpectatorManager spectatorManager;
     private ChatManager chatManager;
@@ -42,6 +44,13 @@ public class CTFCore extends JavaPlugin {
     private CurrencyManager currencyManager;
     private TabListManager tabListManager;
     private HologramLeaderboardManager hologramLeaderboardManager;
+    private ChunkPreloadManager chunkPreloadManager;
+    private TeleportManager teleportManager;
+    private PerformanceManager performanceManager;
+    private LoadGovernorManager loadGovernorManager;
+    private MetricsExporterManager metricsExporterManager;
+    private PlaceholderCacheManager placeholderCacheManager;
+    private KitManager kitManager;
 
     // PlaceholderAPI integration
     private boolean placeholderAPIEnabled = false;
@@ -72,6 +81,11 @@ public class CTFCore extends JavaPlugin {
         // Register event listeners
         registerListeners();
 
+        // Players already online after a reload never fire a join event
+        for (org.bukkit.entity.Player player : getServer().getOnlinePlayers()) {
+            chatManager.trackPlayer(player);
+        }
+
         // Register PlaceholderAPI expansion
         if (placeholderAPIEnabled) {
             new CTFPlaceholderExpansion(this).register();
@@ -188,6 +202,10 @@ public class CTFCore extends JavaPlugin {
         // Now load all configurations (including migrated ones)
         configManager.loadAll();
 
+        // Start performance instrumentation before any timed manager is created
+        performanceManager = new PerformanceManager(this);
+        loadGovernorManager = new LoadGovernorManager(this);
+
         // Then initialize core managers
         worldGuardManager = new WorldGuardManager();
         playerDataManager = new PlayerDataManager(this);
@@ -204,12 +222,19 @@ public class CTFCore extends JavaPlugin {
         serverLobbyManager = new ServerLobbyManager(this);
         autojoinManager = new AutojoinManager(this);
         messageManager = new MessageManager(this);
+        hudManager = new HudManager(this);
+        listenerGateManager = new ListenerGateManager(this);
         powerUpManager = new PowerUpManager(this);
         spectatorManager = new SpectatorManager(this);
         chatManager = new ChatManager(this);
         adminToolManager = new AdminToolManager(this);
         tabListManager = new TabListManager(this);
         hologramLeaderboardManager = new HologramLeaderboardManager(this);
+        chunkPreloadManager = new ChunkPreloadManager(this);
+        teleportManager = new TeleportManager(this);
+        metricsExporterManager = new MetricsExporterManager(this);
+        placeholderCacheManager = new PlaceholderCacheManager(this);
+        kitManager = new KitManager(this);
 
         // Load data that depends on config
         arenaManager.loadArenas();
@@ -233,16 +258,21 @@ public class CTFCore extends JavaPlugin {
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new PlayerJoinListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerQuitListener(this), this);
-        getServer().getPluginManager().registerEvents(new PlayerMoveListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerDeathListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerDamageListener(this), this);
         getServer().getPluginManager().registerEvents(new BlockBreakListener(this), this);
         getServer().getPluginManager().registerEvents(new BlockPlaceListener(this), this); // **NEW ENHANCED FEATURE**
-        getServer().getPluginManager().registerEvents(new PlayerInteractListener(this), this);
+        PlayerInteractListener interactListener = new PlayerInteractListener(this);
+        getServer().getPluginManager().registerEvents(interactListener, this);
         getServer().getPluginManager().registerEvents(new PlayerRespawnListener(this), this);
         getServer().getPluginManager().registerEvents(new InventoryClickListener(this), this);
         getServer().getPluginManager().registerEvents(new ChatListener(this), this);
 
+        // The movement dispatcher is only registered while at least one game is being played
+        PlayerMoveListener moveListener = new PlayerMoveListener(this);
+        moveListener.addZone(interactListener.getInteractionRangeZone());
+        listenerGateManager.registerWhilePlaying(moveListener);
+
         getLogger().info("Event listeners registered successfully.");
     }
 
@@ -277,6 +307,24 @@ public class CTFCore extends JavaPlugin {
             }
         }
 
+        // Unregister gated listeners
+        if (listenerGateManager != null) {
+            try {
+                listenerGateManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown listener gate: " + e.getMessage());
+            }
+        }
+
+        // Shutdown HUD manager
+        if (hudManager != null) {
+            try {
+                hudManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown HUD manager: " + e.getMessage());
+            }
+        }
+
         // Shutdown power-up manager
         if (powerUpManager != null) {
             try {
@@ -303,6 +351,60 @@ public class CTFCore extends JavaPlugin {
                 getLogger().warning("Could not shutdown hologram leaderboard manager: " + e.getMessage());
             }
         }
+
+        // Shutdown teleport manager
+        if (teleportManager != null) {
+            try {
+                teleportManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown teleport manager: " + e.getMessage());
+            }
+        }
+
+        // Drop cached placeholder values
+        if (placeholderCacheManager != null) {
+            try {
+                placeholderCacheManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown placeholder cache: " + e.getMessage());
+            }
+        }
+
+        // Stop metrics exporter
+        if (metricsExporterManager != null) {
+            try {
+                metricsExporterManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown metrics exporter: " + e.getMessage());
+            }
+        }
+
+        // Shutdown load governor
+        if (loadGovernorManager != null) {
+            try {
+                loadGovernorManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown load governor: " + e.getMessage());
+            }
+        }
+
+        // Shutdown performance manager
+        if (performanceManager != null) {
+            try {
+                performanceManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown performance manager: " + e.getMessage());
+            }
+        }
+
+        // Release preloaded arena chunks
+        if (chunkPreloadManager != null) {
+            try {
+                chunkPreloadManager.shutdown();
+            } catch (Exception e) {
+                getLogger().warning("Could not shutdown chunk preload manager: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -335,6 +437,8 @@ public class CTFCore extends JavaPlugin {
 
         // Reload configurations
         configManager.loadAll();
+        placeholderCacheManager.invalidateAll();
+        kitManager.loadKits();
 
         // Clear and reload arenas
         arenaManager.clearAllSetupModes();
@@ -423,6 +527,14 @@ public class CTFCore extends JavaPlugin {
         return messageManager;
     }
 
+    public HudManager getHudManager() {
+        return hudManager;
+    }
+
+    public ListenerGateManager getListenerGateManager() {
+        return listenerGateManager;
+    }
+
     public PowerUpManager getPowerUpManager() {
         return powerUpManager;
     }
@@ -451,6 +563,34 @@ public class CTFCore extends JavaPlugin {
         return hologramLeaderboardManager;
     }
 
+    public ChunkPreloadManager getChunkPreloadManager() {
+        return chunkPreloadManager;
+    }
+
+    public TeleportManager getTeleportManager() {
+        return teleportManager;
+    }
+
+    public PerformanceManager getPerformanceManager() {
+        return performanceManager;
+    }
+
+    public LoadGovernorManager getLoadGovernorManager() {
+        return loadGovernorManager;
+    }
+
+    public PlaceholderCacheManager getPlaceholderCacheManager() {
+        return placeholderCacheManager;
+    }
+
+    public KitManager getKitManager() {
+        return kitManager;
+    }
+
+    public MetricsExporterManager getMetricsExporterManager() {
+        return metricsExporterManager;
+    }
+
     /**
      * **NEW ENHANCED FEATURE: Get block tracking manager**
      */
@@ -8,10 +8,15 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import org.cwresports.ctfcore.CTFCore;
 import org.cwresports.ctfcore.managers.ArenaManager;
+import org.cwresports.ctfcore.managers.LoadGovernorManager;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 import org.cwresports.ctfcore.models.Arena;
 import org.cwresports.ctfcore.models.CTFGame;
+import org.cwresports.ctfcore.models.CTFPlayer;
+import org.cwresports.ctfcore.models.GameClock;
 import org.cwresports.ctfcore.models.GameState;
 import org.cwresports.ctfcore.models.LeaderboardType;
+import org.cwresports.ctfcore.models.PlayerSession;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -71,6 +76,8 @@ public class CTFAdminCommand implements CommandExecutor, TabCompleter {
                 return handleForceStart(sender, args);
             case "leaderboard":
                 return handleLeaderboard(sender, args);
+            case "perf":
+                return handlePerf(sender, args);
             case "help":
                 showHelp(sender);
                 return true;
@@ -699,6 +706,136 @@ public class CTFAdminCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    private boolean handlePerf(CommandSender sender, String[] args) {
+        PerformanceManager performanceManager = plugin.getPerformanceManager();
+        String action = args.length > 1 ? args[1].toLowerCase() : "show";
+
+        switch (action) {
+            case "reset":
+                performanceManager.reset();
+                sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&aPerformance metrics have been reset."));
+                return true;
+            case "log":
+                performanceManager.logSummary();
+                sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&aPerformance summary written to the console."));
+                return true;
+            case "on":
+            case "off":
+                performanceManager.setEnabled(action.equals("on"));
+                sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&aPerformance metrics " +
+                        (performanceManager.isEnabled() ? "enabled" : "disabled") + "."));
+                return true;
+            case "clocks":
+                return showGameClocks(sender);
+            case "sessions":
+                return showPlayerSessions(sender);
+            case "show":
+                break;
+            default:
+                sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&cUsage: /ctfadmin perf [reset|log|on|off|clocks|sessions]"));
+                return true;
+        }
+
+        List<PerformanceManager.Timer> timers = performanceManager.getTimersByTotalTime();
+        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&e&l=== CTF Performance ===" +
+                (performanceManager.isEnabled() ? "" : " &c(disabled)")));
+        LoadGovernorManager loadGovernor = plugin.getLoadGovernorManager();
+        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', String.format("&7Load tier: &f%s &7(%.1f mspt)",
+                loadGovernor.getTier(), loadGovernor.getLastMspt())));
+
+        if (timers.isEmpty()) {
+            sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&7No timings recorded yet."));
+            return true;
+        }
+
+        for (PerformanceManager.Timer timer : timers) {
+            if (timer.getCount() == 0) {
+                continue;
+            }
+            sender.sendMessage(ChatColor.translateAlternateColorCodes('&', String.format(
+                    "&e%s &7n=&f%d &7p50=&f%s &7p95=&f%s &7p99=&f%s &7max=&f%s &7total=&f%s",
+                    timer.getName(), timer.getCount(),
+                    PerformanceManager.formatNanos(timer.getPercentile(50)),
+                    PerformanceManager.formatNanos(timer.getPercentile(95)),
+                    PerformanceManager.formatNanos(timer.getPercentile(99)),
+                    PerformanceManager.formatNanos(timer.getMaxNanos()),
+                    PerformanceManager.formatNanos(timer.getTotalNanos()))));
+        }
+
+        Map<String, Long> counters = performanceManager.getCounterSnapshot();
+        if (!counters.isEmpty()) {
+            sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&e&lCounters:"));
+            for (Map.Entry<String, Long> entry : counters.entrySet()) {
+                sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&e" + entry.getKey() + " &7= &f" + entry.getValue()));
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Show each running game clock with the drift a tick-counting timer would have accumulated
+     */
+    private boolean showGameClocks(CommandSender sender) {
+        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&e&l=== CTF Game Clocks ==="));
+
+        long now = System.nanoTime();
+        int currentTick = org.bukkit.Bukkit.getCurrentTick();
+        boolean anyRunning = false;
+
+        for (CTFGame game : plugin.getGameManager().getActiveGames()) {
+            GameClock clock = game.getClock();
+            if (!clock.isRunning()) {
+                continue;
+            }
+
+            anyRunning = true;
+            sender.sendMessage(ChatColor.translateAlternateColorCodes('&', String.format(
+                    "&e%s &7(%s) &7left=&f%s &7elapsed=&f%.1fs &7drift=&f%dms",
+                    game.getArena().getName(), game.getState().toString().toLowerCase(),
+                    game.getFormattedTimeLeft(), clock.getElapsedMillis(now) / 1000.0,
+                    clock.getDriftMillis(now, currentTick))));
+        }
+
+        if (!anyRunning) {
+            sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&7No game clocks are running."));
+        }
+
+        return true;
+    }
+
+    /**
+     * Show how much per-player session state is held and what it is used for
+     */
+    private boolean showPlayerSessions(CommandSender sender) {
+        int sessions = 0;
+        int spawnProtections = 0;
+        int respawnCountdowns = 0;
+        int captureAttempts = 0;
+        int interactions = 0;
+        long bytes = 0;
+
+        for (CTFPlayer ctfPlayer : plugin.getGameManager().getTrackedPlayers()) {
+            PlayerSession session = ctfPlayer.getSession();
+            sessions++;
+            if (session.isSpawnProtected()) spawnProtections++;
+            if (session.getRespawnTask() != null) respawnCountdowns++;
+            if (session.getCaptureAttempt() != null) captureAttempts++;
+            if (session.getInteractionTarget() != null) interactions++;
+            bytes += session.estimateBytes();
+        }
+
+        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&e&l=== CTF Player Sessions ==="));
+        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', String.format(
+                "&7Sessions: &f%d &7estimated size: &f%.1f KB &7(&f%d B&7 per player)",
+                sessions, bytes / 1024.0, sessions > 0 ? bytes / sessions : 0)));
+        sender.sendMessage(ChatColor.translateAlternateColorCodes('&', String.format(
+                "&7Spawn protected: &f%d &7respawning: &f%d &7capturing: &f%d &7interacting: &f%d",
+                spawnProtections, respawnCountdowns, captureAttempts, interactions)));
+
+        return true;
+    }
+
     private boolean handleSetServerLobby(CommandSender sender, String[] args) {
         if (!(sender instanceof Player)) {
             sender.sendMessage(plugin.getConfigManager().getMessage("player-only"));
@@ -827,6 +964,7 @@ public class CTFAdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(plugin.getConfigManager().getMessage("help-admin-reload"));
         sender.sendMessage(plugin.getConfigManager().getMessage("help-admin-setserverlobby"));
         sender.sendMessage(plugin.getConfigManager().getMessage("help-admin-forcestart"));
+        sender.sendMessage(plugin.getConfigManager().getMessage("help-admin-perf"));
         sender.sendMessage(ChatColor.translateAlternateColorCodes('&', "&e/ctfadmin leaderboard <action> - Manage hologram leaderboards"));
     }
 
@@ -838,7 +976,7 @@ public class CTFAdminCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 1) {
             return Arrays.asList("create", "setup", "delete", "setlobby", "setspawn", "setflag",
-                            "setcapture", "status", "save", "list", "reload", "setserverlobby", "forcestart", "leaderboard", "help")
+                            "setcapture", "status", "save", "list", "reload", "setserverlobby", "forcestart", "leaderboard", "perf", "help")
                     .stream()
                     .filter(s -> s.toLowerCase().startsWith(args[0].toLowerCase()))
                     .collect(Collectors.toList());
@@ -860,6 +998,13 @@ public class CTFAdminCommand implements CommandExecutor, TabCompleter {
                         .filter(s -> s.toLowerCase().startsWith(args[1].toLowerCase()))
                         .collect(Collectors.toList());
             }
+
+            if (subcommand.equals("perf")) {
+                return Arrays.asList("reset", "log", "on", "off", "clocks", "sessions")
+                        .stream()
+                        .filter(s -> s.toLowerCase().startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList());
+            }
         }
 
         if (args.length == 3) {
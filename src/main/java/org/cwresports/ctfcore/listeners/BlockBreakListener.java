@@ -8,6 +8,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 import org.cwresports.ctfcore.managers.ArenaManager;
 import org.cwresports.ctfcore.models.Arena;
 import org.cwresports.ctfcore.models.CTFPlayer;
@@ -23,16 +24,32 @@ import java.util.Map;
 public class BlockBreakListener implements Listener {
 
     private final CTFCore plugin;
+    private final PerformanceManager.Timer blockBreakTimer;
 
     public BlockBreakListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.blockBreakTimer = plugin.getPerformanceManager().timer("listener.block-break");
     }
 
     @EventHandler(priority = EventPriority.HIGH)
     public void onBlockBreak(BlockBreakEvent event) {
+        long start = System.nanoTime();
+        try {
+            handleBlockBreak(event);
+        } finally {
+            blockBreakTimer.record(start);
+        }
+    }
+
+    private void handleBlockBreak(BlockBreakEvent event) {
         Player player = event.getPlayer();
         Block block = event.getBlock();
 
+        // Nothing to do in worlds without an arena
+        if (!plugin.getArenaManager().isArenaWorld(block.getWorld())) {
+            return;
+        }
+
         // Check if player is in flag setup mode (admin functionality)
         if (plugin.getArenaManager().isPlayerInSetupMode(player)) {
             handleFlagSetup(event, player, block);
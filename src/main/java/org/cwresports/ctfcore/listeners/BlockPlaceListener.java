@@ -7,6 +7,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 import org.cwresports.ctfcore.models.CTFPlayer;
 import org.cwresports.ctfcore.models.GameState;
 
@@ -17,15 +18,32 @@ import org.cwresports.ctfcore.models.GameState;
 public class BlockPlaceListener implements Listener {
     
     private final CTFCore plugin;
+    private final PerformanceManager.Timer blockPlaceTimer;
     
     public BlockPlaceListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.blockPlaceTimer = plugin.getPerformanceManager().timer("listener.block-place");
     }
     
     @EventHandler(priority = EventPriority.HIGH)
     public void onBlockPlace(BlockPlaceEvent event) {
+        long start = System.nanoTime();
+        try {
+            handleBlockPlace(event);
+        } finally {
+            blockPlaceTimer.record(start);
+        }
+    }
+
+    private void handleBlockPlace(BlockPlaceEvent event) {
         Player player = event.getPlayer();
         Block block = event.getBlock();
+
+        // Nothing to do in worlds without an arena
+        if (!plugin.getArenaManager().isArenaWorld(block.getWorld())) {
+            return;
+        }
+
         CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
         
         // If player is not in a CTF game, allow normal block placement
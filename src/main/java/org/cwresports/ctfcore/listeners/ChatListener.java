@@ -1,10 +1,11 @@
 package org.cwresports.ctfcore.listeners;
 
+import io.papermc.paper.event.player.AsyncChatEvent;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.AsyncPlayerChatEvent;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 
 /**
  * Handles chat formatting with level, rank integration, and arena isolation
@@ -12,31 +13,21 @@ import org.cwresports.ctfcore.CTFCore;
 public class ChatListener implements Listener {
 
     private final CTFCore plugin;
+    private final PerformanceManager.Timer chatTimer;
 
     public ChatListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.chatTimer = plugin.getPerformanceManager().timer("listener.chat");
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerChat(AsyncPlayerChatEvent event) {
-        if (event.isCancelled()) {
-            return;
-        }
-
-        String message = event.getMessage();
-
-        // Always cancel the event first to prevent default chat
-        event.setCancelled(true);
-
-        // Handle the message through our chat manager
-        boolean handled = plugin.getChatManager().handleChatMessage(event.getPlayer(), message);
-        
-        if (!handled) {
-            // Fallback to original formatting if not handled
-            String formattedMessage = plugin.getChatManager().formatChatMessage(event.getPlayer(), message);
-            if (formattedMessage != null) {
-                plugin.getServer().broadcastMessage(formattedMessage);
-            }
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onPlayerChat(AsyncChatEvent event) {
+        long start = System.nanoTime();
+        try {
+            // Routing and formatting happen here, delivery is left to the event viewers
+            plugin.getChatManager().handleChat(event);
+        } finally {
+            chatTimer.record(start);
         }
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 
 /**
  * Handles inventory click events for GUIs and hotbar protection
@@ -14,13 +15,24 @@ import org.cwresports.ctfcore.CTFCore;
 public class InventoryClickListener implements Listener {
 
     private final CTFCore plugin;
+    private final PerformanceManager.Timer inventoryClickTimer;
 
     public InventoryClickListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.inventoryClickTimer = plugin.getPerformanceManager().timer("listener.inventory-click");
     }
 
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
+        long start = System.nanoTime();
+        try {
+            handleInventoryClick(event);
+        } finally {
+            inventoryClickTimer.record(start);
+        }
+    }
+
+    private void handleInventoryClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player)) {
             return;
         }
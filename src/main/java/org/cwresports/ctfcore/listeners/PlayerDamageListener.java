@@ -1,12 +1,17 @@
 package org.cwresports.ctfcore.listeners;
 
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
+import org.cwresports.ctfcore.models.CTFGame;
 import org.cwresports.ctfcore.models.CTFPlayer;
 import org.cwresports.ctfcore.models.GameState;
 
@@ -17,14 +22,29 @@ import org.cwresports.ctfcore.models.GameState;
 public class PlayerDamageListener implements Listener {
     
     private final CTFCore plugin;
+    private final PerformanceManager.Timer damageTimer;
+    private final PerformanceManager.Timer damageByPlayerTimer;
+    private final PerformanceManager.Timer resolvedDamageTimer;
     
     public PlayerDamageListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.damageTimer = plugin.getPerformanceManager().timer("listener.damage");
+        this.damageByPlayerTimer = plugin.getPerformanceManager().timer("listener.damage-by-player");
+        this.resolvedDamageTimer = plugin.getPerformanceManager().timer("listener.resolved-damage");
     }
     
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerDamage(EntityDamageEvent event) {
-        if (!(event.getEntity() instanceof Player)) {
+        long start = System.nanoTime();
+        try {
+            handlePlayerDamage(event);
+        } finally {
+            damageTimer.record(start);
+        }
+    }
+
+    private void handlePlayerDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player) || !plugin.getArenaManager().isArenaWorld(event.getEntity().getWorld())) {
             return;
         }
         
@@ -36,7 +56,7 @@ public class PlayerDamageListener implements Listener {
         }
         
         // Check spawn protection for the victim
-        if (plugin.getGameManager().hasSpawnProtection(player)) {
+        if (plugin.getGameManager().hasSpawnProtection(player, ctfPlayer)) {
             event.setCancelled(true);
             
             // Notify attacker if it's PvP damage
@@ -58,7 +78,17 @@ public class PlayerDamageListener implements Listener {
     
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerDamageByPlayer(EntityDamageByEntityEvent event) {
-        if (!(event.getEntity() instanceof Player victim) || !(event.getDamager() instanceof Player attacker)) {
+        long start = System.nanoTime();
+        try {
+            handlePlayerDamageByPlayer(event);
+        } finally {
+            damageByPlayerTimer.record(start);
+        }
+    }
+
+    private void handlePlayerDamageByPlayer(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Player victim) || !(event.getDamager() instanceof Player attacker) ||
+            !plugin.getArenaManager().isArenaWorld(victim.getWorld())) {
             return;
         }
         
@@ -86,7 +116,7 @@ public class PlayerDamageListener implements Listener {
         }
         
         // Check spawn protection for victim
-        if (plugin.getGameManager().hasSpawnProtection(victim)) {
+        if (plugin.getGameManager().hasSpawnProtection(victim, victimCtfPlayer)) {
             event.setCancelled(true);
             String message = plugin.getMessageManager().processMessage("&c⛨ That player has spawn protection!");
             attacker.sendMessage(message);
@@ -94,19 +124,92 @@ public class PlayerDamageListener implements Listener {
         }
         
         // **ENHANCED FEATURE: Remove spawn protection from attacker when they try to attack**
-        if (plugin.getGameManager().hasSpawnProtection(attacker)) {
-            // Remove spawn protection from attacker immediately
-            plugin.getGameManager().removeSpawnProtection(attacker);
+        if (plugin.getGameManager().hasSpawnProtection(attacker, attackerCtfPlayer)) {
+            // Remove spawn protection and its boss bar from attacker immediately
+            plugin.getGameManager().removeSpawnProtection(attacker, attackerCtfPlayer);
             
             // Notify attacker that their protection was removed
             String message = plugin.getMessageManager().processMessage("&e⛨ Your spawn protection has been removed because you attacked!");
             attacker.sendMessage(message);
             
-            // Remove the spawn protection boss bar
-            plugin.getMessageManager().removeSpawnProtectionBossBar(attacker);
-            
             // Allow the attack to continue (don't cancel the event)
             plugin.getLogger().info("Removed spawn protection from " + attacker.getName() + " for attacking " + victim.getName());
         }
     }
+    
+    /**
+     * Record resolved damage in the combat ledger and turn lethal damage into an instant fake death,
+     * after every other handler had its say
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onResolvedDamage(EntityDamageEvent event) {
+        long start = System.nanoTime();
+        try {
+            handleResolvedDamage(event);
+        } finally {
+            resolvedDamageTimer.record(start);
+        }
+    }
+
+    private void handleResolvedDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player player) || !plugin.getArenaManager().isArenaWorld(player.getWorld())) {
+            return;
+        }
+        
+        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
+        if (ctfPlayer == null || !ctfPlayer.isInGame()) {
+            return;
+        }
+        
+        // Players waiting to respawn spectate in place and cannot be hurt
+        if (!ctfPlayer.isAlive()) {
+            event.setCancelled(true);
+            return;
+        }
+        
+        CTFGame game = ctfPlayer.getGame();
+        if (game.getState() != GameState.PLAYING) {
+            return;
+        }
+        
+        Player attacker = findAttacker(player, event);
+        if (attacker != null) {
+            game.getCombatLedger().recordDamage(player.getUniqueId(), attacker.getUniqueId(),
+                Math.min(event.getFinalDamage(), player.getHealth()), Bukkit.getCurrentTick());
+        }
+        
+        if (event.getFinalDamage() < player.getHealth() ||
+            !plugin.getConfigManager().getGameplaySetting("instant-respawn", true)) {
+            return;
+        }
+        
+        // A held totem of undying is left to vanilla
+        if (event.getCause() != EntityDamageEvent.DamageCause.VOID &&
+            (player.getInventory().getItemInMainHand().getType() == Material.TOTEM_OF_UNDYING ||
+             player.getInventory().getItemInOffHand().getType() == Material.TOTEM_OF_UNDYING)) {
+            return;
+        }
+        
+        event.setCancelled(true);
+        plugin.getGameManager().handleFakeDeath(player, attacker);
+    }
+    
+    /**
+     * Find the player dealing damage directly or with a projectile, the combat ledger covers indirect damage
+     */
+    private Player findAttacker(Player victim, EntityDamageEvent event) {
+        if (!(event instanceof EntityDamageByEntityEvent damageByEntity)) {
+            return null;
+        }
+        
+        Player attacker = null;
+        if (damageByEntity.getDamager() instanceof Player damager) {
+            attacker = damager;
+        } else if (damageByEntity.getDamager() instanceof Projectile projectile &&
+                   projectile.getShooter() instanceof Player shooter) {
+            attacker = shooter;
+        }
+        
+        return attacker != null && !attacker.equals(victim) ? attacker : null;
+    }
 }
\ No newline at end of file
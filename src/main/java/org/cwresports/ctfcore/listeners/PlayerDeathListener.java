@@ -5,21 +5,34 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 import org.cwresports.ctfcore.models.CTFPlayer;
 
 /**
  * Handles player death events in CTF games
+ * Most deaths are intercepted as fake deaths by PlayerDamageListener, this covers the remaining real deaths
  */
 public class PlayerDeathListener implements Listener {
     
     private final CTFCore plugin;
+    private final PerformanceManager.Timer deathTimer;
     
     public PlayerDeathListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.deathTimer = plugin.getPerformanceManager().timer("listener.death");
     }
     
     @EventHandler
     public void onPlayerDeath(PlayerDeathEvent event) {
+        long start = System.nanoTime();
+        try {
+            handlePlayerDeath(event);
+        } finally {
+            deathTimer.record(start);
+        }
+    }
+
+    private void handlePlayerDeath(PlayerDeathEvent event) {
         Player player = event.getEntity();
         CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
         
@@ -37,17 +50,10 @@ public class PlayerDeathListener implements Listener {
         // Get killer
         Player killer = player.getKiller();
         
-        // Handle death in game manager
-        plugin.getGameManager().handlePlayerDeath(player, killer);
+        // Handle death in game manager, which may credit a different recent attacker
+        killer = plugin.getGameManager().handlePlayerDeath(player, killer);
         
-        // Play death sound
-        player.playSound(player.getLocation(), 
-            plugin.getConfigManager().getSound("player_death"), 1.0f, 1.0f);
-        
-        if (killer != null && !killer.equals(player)) {
-            // Play kill sound for killer
-            killer.playSound(killer.getLocation(), 
-                plugin.getConfigManager().getSound("kill_player"), 1.0f, 1.0f);
-        }
+        // Play death and kill sounds
+        plugin.getGameManager().playDeathSounds(player, killer);
     }
 }
\ No newline at end of file
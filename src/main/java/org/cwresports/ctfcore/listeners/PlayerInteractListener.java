@@ -6,7 +6,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.block.Action;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
@@ -14,13 +13,13 @@ import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.Location;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.HudManager;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 import org.cwresports.ctfcore.managers.ArenaManager;
 import org.cwresports.ctfcore.models.*;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Enhanced player interact listener with configurable flag capture system
@@ -29,43 +28,36 @@ import java.util.concurrent.ConcurrentHashMap;
 public class PlayerInteractListener implements Listener {
 
     private final CTFCore plugin;
-    private final Map<UUID, InteractionAttempt> activeAttempts;
+    private final PerformanceManager.Timer interactTimer;
 
     public PlayerInteractListener(CTFCore plugin) {
         this.plugin = plugin;
-        this.activeAttempts = new ConcurrentHashMap<>();
+        this.interactTimer = plugin.getPerformanceManager().timer("listener.interact");
     }
 
     /**
-     * Represents an active interaction attempt (flag take, capture, or return)
+     * Movement zone for players who walked more than three blocks away from their interaction target
+     * Entering it cancels the interaction, dispatched by PlayerMoveListener
      */
-    private static class InteractionAttempt {
-        private final Player player;
-        private final InteractionType type;
-        private final Location targetLocation;
-        private final Arena.TeamColor flagTeam; // For flag operations
-        private final BukkitTask countdownTask;
-        private int timeLeft;
-
-        public InteractionAttempt(Player player, InteractionType type, Location targetLocation,
-                                  Arena.TeamColor flagTeam, BukkitTask countdownTask) {
-            this.player = player;
-            this.type = type;
-            this.targetLocation = targetLocation;
-            this.flagTeam = flagTeam;
-            this.countdownTask = countdownTask;
-            this.timeLeft = 3;
-        }
+    public PlayerMoveListener.Zone getInteractionRangeZone() {
+        return new PlayerMoveListener.Zone() {
+            @Override
+            public boolean contains(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+                Location target = ctfPlayer.getSession().getInteractionTarget();
+                return target != null && event.getTo().distance(target) > 3.0;
+            }
 
-        public Player getPlayer() { return player; }
-        public InteractionType getType() { return type; }
-        public Location getTargetLocation() { return targetLocation; }
-        public Arena.TeamColor getFlagTeam() { return flagTeam; }
-        public BukkitTask getCountdownTask() { return countdownTask; }
-        public int getTimeLeft() { return timeLeft; }
-        public void decrementTime() { timeLeft--; }
+            @Override
+            public boolean onEnter(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+                cancelInteraction(ctfPlayer, true);
+                return false;
+            }
+        };
     }
 
+    /**
+     * Kinds of right-click interaction, the target and countdown task live in the player's session
+     */
     private enum InteractionType {
         FLAG_TAKE,    // Taking enemy flag from their base
         FLAG_CAPTURE, // Capturing flag at own capture point
@@ -75,6 +67,15 @@ public class PlayerInteractListener implements Listener {
 
     @EventHandler
     public void onPlayerInteract(PlayerInteractEvent event) {
+        long start = System.nanoTime();
+        try {
+            handlePlayerInteract(event);
+        } finally {
+            interactTimer.record(start);
+        }
+    }
+
+    private void handlePlayerInteract(PlayerInteractEvent event) {
         Player player = event.getPlayer();
 
         // Handle admin tool interactions first
@@ -133,7 +134,7 @@ public class PlayerInteractListener implements Listener {
         }
 
         // Check if player is already attempting an interaction
-        if (activeAttempts.containsKey(player.getUniqueId())) {
+        if (ctfPlayer.getSession().getInteractionTarget() != null) {
             return; // Already interacting
         }
 
@@ -233,22 +234,21 @@ public class PlayerInteractListener implements Listener {
 
             @Override
             public void run() {
-                InteractionAttempt attempt = activeAttempts.get(player.getUniqueId());
-                if (attempt == null) {
+                if (ctfPlayer.getSession().getInteractionTarget() == null) {
                     cancel();
                     return;
                 }
 
                 // Check if player is still online and in the game
                 if (!player.isOnline() || !ctfPlayer.isInGame()) {
-                    cancelInteraction(player.getUniqueId(), false);
+                    cancelInteraction(ctfPlayer, false);
                     cancel();
                     return;
                 }
 
                 // Check if player moved too far from target
                 if (player.getLocation().distance(targetBlock.getLocation()) > 3.0) {
-                    cancelInteraction(player.getUniqueId(), true);
+                    cancelInteraction(ctfPlayer, true);
                     cancel();
                     return;
                 }
@@ -271,14 +271,14 @@ public class PlayerInteractListener implements Listener {
                 }
 
                 if (validationFailed) {
-                    cancelInteraction(player.getUniqueId(), false);
+                    cancelInteraction(ctfPlayer, false);
                     cancel();
                     return;
                 }
 
                 if (timeLeft <= 0) {
                     // Interaction completed!
-                    activeAttempts.remove(player.getUniqueId());
+                    ctfPlayer.getSession().setInteraction(null, null);
 
                     // Execute the appropriate action
                     boolean success = false;
@@ -326,62 +326,34 @@ public class PlayerInteractListener implements Listener {
 
                 // Show countdown in action bar
                 String countdownText = "§e§l" + timeLeft;
-                player.sendActionBar(actionMessage + " " + countdownText);
+                plugin.getHudManager().sendActionBar(player, actionMessage + " " + countdownText, HudManager.Priority.NORMAL);
 
                 // Play tick sound
                 player.playSound(player.getLocation(), plugin.getConfigManager().getSound("countdown"), 0.5f, 1.5f);
 
                 timeLeft--;
-                attempt.decrementTime();
             }
         }.runTaskTimer(plugin, 0L, 20L); // Run every second
 
         // Store the interaction attempt
-        InteractionAttempt attempt = new InteractionAttempt(player, type, targetBlock.getLocation(), flagTeam, countdownTask);
-        activeAttempts.put(player.getUniqueId(), attempt);
+        ctfPlayer.getSession().setInteraction(targetBlock.getLocation(), countdownTask);
 
         // Send initial message
-        player.sendActionBar(actionMessage + " §e§l3");
+        plugin.getHudManager().sendActionBar(player, actionMessage + " §e§l3", HudManager.Priority.NORMAL);
     }
 
     /**
      * Cancel an interaction attempt
      */
-    private void cancelInteraction(UUID playerId, boolean showMessage) {
-        InteractionAttempt attempt = activeAttempts.remove(playerId);
-        if (attempt != null) {
-            attempt.getCountdownTask().cancel();
-
-            if (showMessage && attempt.getPlayer().isOnline()) {
-                attempt.getPlayer().sendActionBar("§c§lInteraction cancelled!");
-            }
-        }
-    }
-
-    /**
-     * Handle player movement to cancel interaction if they move too far
-     */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        InteractionAttempt attempt = activeAttempts.get(player.getUniqueId());
-
-        if (attempt != null) {
-            // Check if player moved too far from target
-            if (player.getLocation().distance(attempt.getTargetLocation()) > 3.0) {
-                cancelInteraction(player.getUniqueId(), true);
+    private void cancelInteraction(CTFPlayer ctfPlayer, boolean showMessage) {
+        if (ctfPlayer.getSession().clearInteraction() && showMessage) {
+            Player player = ctfPlayer.getPlayer();
+            if (player != null && player.isOnline()) {
+                plugin.getHudManager().sendActionBar(player, "§c§lInteraction cancelled!", HudManager.Priority.HIGH);
             }
         }
     }
 
-    /**
-     * Handle player quit to clean up interaction attempts
-     */
-    @EventHandler
-    public void onPlayerQuit(PlayerQuitEvent event) {
-        cancelInteraction(event.getPlayer().getUniqueId(), false);
-    }
-
     /**
      * Handle capture point setup when admin right-clicks a block
      */
@@ -408,14 +380,4 @@ public class PlayerInteractListener implements Listener {
             player.sendMessage(plugin.getConfigManager().getMessage("error-generic"));
         }
     }
-
-    /**
-     * Clean up interaction attempts
-     */
-    public void cleanup() {
-        for (InteractionAttempt attempt : activeAttempts.values()) {
-            attempt.getCountdownTask().cancel();
-        }
-        activeAttempts.clear();
-    }
-}
\ No newline at end of file
+}
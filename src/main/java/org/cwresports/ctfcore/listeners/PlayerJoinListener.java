@@ -4,6 +4,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 
 /**
  * Enhanced player join listener with improved reconnection handling
@@ -12,19 +13,33 @@ import org.cwresports.ctfcore.CTFCore;
 public class PlayerJoinListener implements Listener {
     
     private final CTFCore plugin;
+    private final PerformanceManager.Timer joinTimer;
     
     public PlayerJoinListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.joinTimer = plugin.getPerformanceManager().timer("listener.join");
     }
     
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
+        long start = System.nanoTime();
+        try {
+            handlePlayerJoin(event);
+        } finally {
+            joinTimer.record(start);
+        }
+    }
+
+    private void handlePlayerJoin(PlayerJoinEvent event) {
         // Remove default vanilla join message
         event.setJoinMessage(null);
         
         // ENHANCED: Handle player reconnection with improved state restoration
         plugin.getGameManager().handlePlayerReconnection(event.getPlayer());
         
+        // Make the player known to the async chat thread
+        plugin.getChatManager().trackPlayer(event.getPlayer());
+        
         // Update scoreboard for new/returning player
         plugin.getScoreboardManager().updatePlayerScoreboard(event.getPlayer());
         
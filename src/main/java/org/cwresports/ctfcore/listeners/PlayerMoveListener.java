@@ -5,81 +5,95 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.scheduler.BukkitRunnable;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.HudManager;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 import org.cwresports.ctfcore.models.Arena;
+import org.cwresports.ctfcore.models.CaptureAttempt;
 import org.cwresports.ctfcore.models.CTFGame;
 import org.cwresports.ctfcore.models.CTFPlayer;
 import org.cwresports.ctfcore.models.CTFFlag;
 import org.cwresports.ctfcore.models.GameState;
+import org.cwresports.ctfcore.models.PlayerSession;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Enhanced player move listener with instant capture and instant flag break systems
- * Handles movement-based events including boundary checks, flag capture, and flag taking
+ * Runs the shared game checks once per block change and dispatches zone entries and exits,
+ * covering boundary checks, power-ups, flag capture, flag taking and interaction range
  */
 public class PlayerMoveListener implements Listener {
 
     private final CTFCore plugin;
-    private final Map<UUID, CaptureAttempt> activeCaptureAttempts;
-    private final Map<UUID, Long> lastFlagTakeAttempt;
+    private final PerformanceManager.Timer moveTimer;
+    private final List<Zone> zones;
+    private final long captureZoneBit;
 
     public PlayerMoveListener(CTFCore plugin) {
         this.plugin = plugin;
-        this.activeCaptureAttempts = new ConcurrentHashMap<>();
-        this.lastFlagTakeAttempt = new ConcurrentHashMap<>();
+        this.moveTimer = plugin.getPerformanceManager().timer("listener.move");
+        this.zones = new ArrayList<>();
+
+        // Same order as the checks ran before zones, the boundary can cancel the move for the others
+        addZone(new BoundaryZone());
+        addZone(new PowerUpZone());
+        addZone(new CaptureZone());
+        this.captureZoneBit = 1L << (zones.size() - 1);
+        addZone(new EnemyFlagZone());
+        addZone(new OwnFlagZone());
     }
 
     /**
-     * Represents an active capture attempt for timed flag capture
+     * An area players enter and leave, tested once per block change
+     * Only transitions reach the handlers, so per-move cost does not grow with the features built on zones
      */
-    private static class CaptureAttempt {
-        private final Player player;
-        private final Location capturePoint;
-        private final Arena.TeamColor flagTeam;
-        private final long startTime;
-        private final int captureTimeSeconds;
-        private final double captureRadius;
-
-        public CaptureAttempt(Player player, Location capturePoint, Arena.TeamColor flagTeam, int captureTimeSeconds, double captureRadius) {
-            this.player = player;
-            this.capturePoint = capturePoint;
-            this.flagTeam = flagTeam;
-            this.startTime = System.currentTimeMillis();
-            this.captureTimeSeconds = captureTimeSeconds;
-            this.captureRadius = captureRadius;
-        }
-
-        public Player getPlayer() { return player; }
-        public Location getCapturePoint() { return capturePoint; }
-        public Arena.TeamColor getFlagTeam() { return flagTeam; }
-        public long getStartTime() { return startTime; }
-        public int getCaptureTimeSeconds() { return captureTimeSeconds; }
-        public double getCaptureRadius() { return captureRadius; }
+    public interface Zone {
+        boolean contains(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game);
 
-        public boolean isInArea(Location playerLocation) {
-            return playerLocation.distance(capturePoint) <= captureRadius;
-        }
+        /**
+         * Handle the player entering the zone, return false to test the zone again on the next block change
+         */
+        boolean onEnter(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game);
 
-        public int getTimeRemaining() {
-            long elapsed = System.currentTimeMillis() - startTime;
-            return Math.max(0, captureTimeSeconds - (int) (elapsed / 1000));
+        default void onExit(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
         }
+    }
 
-        public boolean isCompleted() {
-            return getTimeRemaining() <= 0;
+    /**
+     * Add a zone, zones are tested in the order they were added
+     */
+    public void addZone(Zone zone) {
+        if (zones.size() >= Long.SIZE) {
+            throw new IllegalStateException("Too many movement zones");
         }
+        zones.add(zone);
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
+        long start = System.nanoTime();
+        try {
+            handlePlayerMove(event);
+        } finally {
+            moveTimer.record(start);
+        }
+    }
+
+    private void handlePlayerMove(PlayerMoveEvent event) {
+        // Only process if player actually moved to a different block
+        if (event.getFrom().getBlockX() == event.getTo().getBlockX() &&
+                event.getFrom().getBlockY() == event.getTo().getBlockY() &&
+                event.getFrom().getBlockZ() == event.getTo().getBlockZ()) {
+            return;
+        }
 
         // Check if player is in a game
-        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
+        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(event.getPlayer());
         if (ctfPlayer == null || !ctfPlayer.isInGame()) {
             return;
         }
@@ -89,177 +103,246 @@ public class PlayerMoveListener implements Listener {
             return;
         }
 
-        // Only process if player actually moved to a different block
-        if (event.getFrom().getBlockX() == event.getTo().getBlockX() &&
-                event.getFrom().getBlockY() == event.getTo().getBlockY() &&
-                event.getFrom().getBlockZ() == event.getTo().getBlockZ()) {
+        // Players waiting to respawn spectate in place and cannot touch flags or power-ups
+        if (!ctfPlayer.isAlive()) {
             return;
         }
 
-        // Check for arena boundaries
-        checkArenaBoundaries(event, ctfPlayer, game);
-
-        // Check for power-up collection
-        plugin.getPowerUpManager().checkPowerUpCollection(player, game);
+        PlayerSession session = ctfPlayer.getSession();
+        long inside = session.getMovementZones();
+        for (int i = 0; i < zones.size(); i++) {
+            Zone zone = zones.get(i);
+            long bit = 1L << i;
+            boolean wasInside = (inside & bit) != 0;
+
+            if (zone.contains(event, ctfPlayer, game)) {
+                if (!wasInside) {
+                    plugin.getPerformanceManager().increment("move.zone-transition");
+                    if (zone.onEnter(event, ctfPlayer, game)) {
+                        inside |= bit;
+                    }
+                }
+            } else if (wasInside) {
+                plugin.getPerformanceManager().increment("move.zone-transition");
+                inside &= ~bit;
+                zone.onExit(event, ctfPlayer, game);
+            }
 
-        // Handle automatic flag capture if enabled
-        if (plugin.getConfigManager().getMainConfig().getString("flag-capture.mode", "automatic").equals("automatic")) {
-            handleAutomaticFlagCapture(event, ctfPlayer, game);
+            // A zone kept the player where they were, the remaining zones did not change
+            if (event.isCancelled()) {
+                break;
+            }
         }
+        session.setMovementZones(inside);
+    }
 
-        // Handle instant flag break system
-        if (plugin.getConfigManager().getMainConfig().getBoolean("flag-capture.instant-break", false)) {
-            handleInstantFlagBreak(event, ctfPlayer, game);
+    /**
+     * Outside the arena region, the move is cancelled and the player warned
+     */
+    private class BoundaryZone implements Zone {
+        @Override
+        public boolean contains(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            return !plugin.getWorldGuardManager().isLocationInRegion(event.getTo(), game.getArena().getWorldGuardRegion());
         }
 
-        // Handle active capture attempts (for timed capture)
-        handleActiveCaptureAttempts(player);
+        @Override
+        public boolean onEnter(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            if (!plugin.getConfigManager().getMainConfig().getBoolean("boundaries.teleport-back-on-exit", true)) {
+                return true;
+            }
+
+            event.setCancelled(true);
+            if (plugin.getConfigManager().getMainConfig().getBoolean("boundaries.warning-message-enabled", true)) {
+                ctfPlayer.getPlayer().sendMessage(plugin.getConfigManager().getMessage("boundary-warning", new HashMap<>()));
+            }
+            // The player never left, so the next attempt is a new entry
+            return false;
+        }
     }
 
     /**
-     * Handle automatic flag capture when player moves into capture area
+     * Near a power-up, collected on entry and tested again so a second power-up close by is picked up too
      */
-    private void handleAutomaticFlagCapture(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
-        // Only process if player has a flag
-        if (!ctfPlayer.hasFlag()) {
-            return;
+    private class PowerUpZone implements Zone {
+        @Override
+        public boolean contains(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            return plugin.getPowerUpManager().hasPowerUpNear(ctfPlayer.getPlayer(), game);
         }
 
-        Location playerLocation = event.getTo();
-        Arena arena = game.getArena();
-        Arena.Team teamData = arena.getTeam(ctfPlayer.getTeam());
+        @Override
+        public boolean onEnter(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            plugin.getPowerUpManager().checkPowerUpCollection(ctfPlayer.getPlayer(), game);
+            return false;
+        }
+    }
 
-        if (teamData.getCapturePoint() == null) {
-            return;
+    /**
+     * Within the automatic capture radius of the player's own capture point
+     */
+    private class CaptureZone implements Zone {
+        @Override
+        public boolean contains(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            if (!plugin.getConfigManager().getMainConfig().getString("flag-capture.mode", "automatic").equals("automatic")) {
+                return false;
+            }
+
+            Location capturePoint = game.getArena().getTeam(ctfPlayer.getTeam()).getCapturePoint();
+            double captureRadius = plugin.getConfigManager().getMainConfig().getDouble("flag-capture.automatic-radius", 2.0);
+            return capturePoint != null && event.getTo().distance(capturePoint) <= captureRadius;
         }
 
-        double captureRadius = plugin.getConfigManager().getMainConfig().getDouble("flag-capture.automatic-radius", 2.0);
-        Location capturePoint = teamData.getCapturePoint();
-        boolean instantCapture = plugin.getConfigManager().getMainConfig().getBoolean("flag-capture.instant-capture", false);
+        @Override
+        public boolean onEnter(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            // Entering without a flag does not count, the player may bring one in later
+            if (!ctfPlayer.hasFlag()) {
+                return false;
+            }
 
-        // Check if player is within capture radius
-        if (playerLocation.distance(capturePoint) <= captureRadius) {
-            UUID playerId = ctfPlayer.getPlayer().getUniqueId();
+            if (plugin.getConfigManager().getMainConfig().getBoolean("flag-capture.instant-capture", false)) {
+                // Instant capture - no delay, tried again on the next block if the capture is refused
+                return captureInstantly(ctfPlayer, game);
+            }
 
-            if (instantCapture) {
-                // Instant capture - no delay
-                boolean success = game.captureFlag(ctfPlayer);
-                if (success) {
-                    ctfPlayer.getPlayer().playSound(ctfPlayer.getPlayer().getLocation(),
-                            plugin.getConfigManager().getSound("flag_captured"), 1.0f, 1.0f);
+            // Timed capture
+            if (ctfPlayer.getSession().getCaptureAttempt() == null) {
+                Location capturePoint = game.getArena().getTeam(ctfPlayer.getTeam()).getCapturePoint();
+                startAutomaticCaptureAttempt(ctfPlayer, game, capturePoint);
+            }
+            return true;
+        }
 
-                    // Show instant capture title
-                    Map<String, String> placeholders = new HashMap<>();
-                    placeholders.put("team_name", ctfPlayer.getTeam().getName().toUpperCase());
+        @Override
+        public void onExit(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            cancelCaptureAttempt(ctfPlayer, true);
+        }
+    }
 
-                    String title = "§a§lFLAG CAPTURED!";
-                    String subtitle = "§e§l" + ctfPlayer.getTeam().getColorCode() + ctfPlayer.getTeam().getName().toUpperCase() + " TEAM";
+    private boolean captureInstantly(CTFPlayer ctfPlayer, CTFGame game) {
+        boolean success = game.captureFlag(ctfPlayer);
+        if (success) {
+            ctfPlayer.getPlayer().playSound(ctfPlayer.getPlayer().getLocation(),
+                    plugin.getConfigManager().getSound("flag_captured"), 1.0f, 1.0f);
 
-                    ctfPlayer.getPlayer().sendTitle(title, subtitle, 10, 40, 10);
+            // Show instant capture title
+            String title = "§a§lFLAG CAPTURED!";
+            String subtitle = "§e§l" + ctfPlayer.getTeam().getColorCode() + ctfPlayer.getTeam().getName().toUpperCase() + " TEAM";
 
-                    plugin.getLogger().info("Player " + ctfPlayer.getPlayer().getName() + " instantly captured flag");
-                }
+            plugin.getHudManager().showTitle(ctfPlayer.getPlayer(), title, subtitle, 10, 40, 10, HudManager.Priority.HIGH);
 
-            } else {
-                // Timed capture - check if player already has an active capture attempt
-                if (!activeCaptureAttempts.containsKey(playerId)) {
-                    // Start new capture attempt
-                    startAutomaticCaptureAttempt(ctfPlayer, game, capturePoint);
-                }
-            }
-        } else {
-            // Player moved out of capture area, cancel any active attempt
-            cancelCaptureAttempt(ctfPlayer.getPlayer().getUniqueId(), true);
+            plugin.getLogger().info("Player " + ctfPlayer.getPlayer().getName() + " instantly captured flag");
         }
+        return success;
     }
 
     /**
-     * Handle instant flag break system
+     * Within reach of an enemy flag at its base or dropped, for the instant flag break system
      */
-    private void handleInstantFlagBreak(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
-        // Only process if player doesn't have a flag
-        if (ctfPlayer.hasFlag() || ctfPlayer.getTeam() == null) {
-            return;
+    private class EnemyFlagZone implements Zone {
+        @Override
+        public boolean contains(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            return findEnemyFlagInReach(event.getTo(), ctfPlayer, game) != null;
         }
 
-        Location playerLocation = event.getTo();
-        Arena arena = game.getArena();
-        UUID playerId = ctfPlayer.getPlayer().getUniqueId();
+        @Override
+        public boolean onEnter(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            // Prevent spam by checking time since last attempt
+            if (System.currentTimeMillis() - ctfPlayer.getSession().getLastFlagTakeTime() < 500) {
+                return false; // 500ms cooldown
+            }
+
+            Arena.TeamColor teamColor = findEnemyFlagInReach(event.getTo(), ctfPlayer, game);
+            if (teamColor == null || !game.takeFlag(ctfPlayer, teamColor)) {
+                return false;
+            }
+
+            ctfPlayer.getPlayer().playSound(ctfPlayer.getPlayer().getLocation(),
+                    plugin.getConfigManager().getSound("flag_taken"), 1.0f, 1.0f);
+
+            // Show instant take title
+            String title = "§e§lFLAG TAKEN!";
+            String subtitle = "§a§l" + teamColor.getColorCode() + teamColor.getName().toUpperCase() + " FLAG";
+
+            plugin.getHudManager().showTitle(ctfPlayer.getPlayer(), title, subtitle, 10, 30, 10, HudManager.Priority.HIGH);
+
+            plugin.getLogger().info("Player " + ctfPlayer.getPlayer().getName() + " instantly took " + teamColor.getName() + " flag");
+
+            // Update last attempt time
+            ctfPlayer.getSession().setLastFlagTakeTime(System.currentTimeMillis());
+            return true;
+        }
+    }
 
-        // Prevent spam by checking time since last attempt
-        Long lastAttempt = lastFlagTakeAttempt.get(playerId);
-        if (lastAttempt != null && System.currentTimeMillis() - lastAttempt < 500) {
-            return; // 500ms cooldown
+    /**
+     * Get the enemy team whose flag is within two blocks, or null
+     */
+    private Arena.TeamColor findEnemyFlagInReach(Location playerLocation, CTFPlayer ctfPlayer, CTFGame game) {
+        if (!plugin.getConfigManager().getMainConfig().getBoolean("flag-capture.instant-break", false) ||
+                ctfPlayer.hasFlag() || ctfPlayer.getTeam() == null) {
+            return null;
         }
 
-        // Check all enemy flags
+        Arena arena = game.getArena();
         for (Arena.TeamColor teamColor : Arena.TeamColor.values()) {
             if (teamColor == ctfPlayer.getTeam()) continue; // Skip own team
 
             CTFFlag flag = game.getFlag(teamColor);
             if (flag == null) continue;
 
-            Arena.Team enemyTeamData = arena.getTeam(teamColor);
             Location flagLocation = null;
-
-            // Check if flag is at base
-            if (flag.isAtBase() && enemyTeamData.getFlagLocation() != null) {
-                flagLocation = enemyTeamData.getFlagLocation();
-            }
-            // Check if flag is dropped
-            else if (flag.isDropped() && flag.getCurrentLocation() != null) {
+            if (flag.isAtBase() && arena.getTeam(teamColor).getFlagLocation() != null) {
+                flagLocation = arena.getTeam(teamColor).getFlagLocation();
+            } else if (flag.isDropped() && flag.getCurrentLocation() != null) {
                 flagLocation = flag.getCurrentLocation();
             }
 
             if (flagLocation != null && playerLocation.distance(flagLocation) <= 2.0) {
-                // Instant flag take
-                boolean success = game.takeFlag(ctfPlayer, teamColor);
-                if (success) {
-                    ctfPlayer.getPlayer().playSound(ctfPlayer.getPlayer().getLocation(),
-                            plugin.getConfigManager().getSound("flag_taken"), 1.0f, 1.0f);
-
-                    // Show instant take title
-                    String title = "§e§lFLAG TAKEN!";
-                    String subtitle = "§a§l" + teamColor.getColorCode() + teamColor.getName().toUpperCase() + " FLAG";
-
-                    ctfPlayer.getPlayer().sendTitle(title, subtitle, 10, 30, 10);
-
-                    plugin.getLogger().info("Player " + ctfPlayer.getPlayer().getName() + " instantly took " + teamColor.getName() + " flag");
+                return teamColor;
+            }
+        }
+        return null;
+    }
 
-                    // Update last attempt time
-                    lastFlagTakeAttempt.put(playerId, System.currentTimeMillis());
-                }
-                break; // Only take one flag at a time
+    /**
+     * Within reach of the player's own dropped flag, for the instant flag break system
+     */
+    private class OwnFlagZone implements Zone {
+        @Override
+        public boolean contains(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            if (!plugin.getConfigManager().getMainConfig().getBoolean("flag-capture.instant-break", false) ||
+                    ctfPlayer.getTeam() == null) {
+                return false;
             }
+
+            CTFFlag ownFlag = game.getFlag(ctfPlayer.getTeam());
+            return ownFlag != null && ownFlag.isDropped() && ownFlag.getCurrentLocation() != null &&
+                    event.getTo().distance(ownFlag.getCurrentLocation()) <= 2.0;
         }
 
-        // Also handle instant flag return for own team's dropped flag
-        CTFFlag ownFlag = game.getFlag(ctfPlayer.getTeam());
-        if (ownFlag != null && ownFlag.isDropped() && ownFlag.getCurrentLocation() != null) {
-            if (playerLocation.distance(ownFlag.getCurrentLocation()) <= 2.0) {
-                // Instant flag return
-                ownFlag.returnToBase();
-                ctfPlayer.addFlagReturn();
+        @Override
+        public boolean onEnter(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
+            // Instant flag return
+            game.getFlag(ctfPlayer.getTeam()).returnToBase();
+            ctfPlayer.addFlagReturn();
 
-                Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("player", ctfPlayer.getPlayer().getName());
-                placeholders.put("team_color", ctfPlayer.getTeam().getColorCode());
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("player", ctfPlayer.getPlayer().getName());
+            placeholders.put("team_color", ctfPlayer.getTeam().getColorCode());
 
-                game.broadcastMessage("flag-returned-clean", placeholders);
-                ctfPlayer.getPlayer().playSound(ctfPlayer.getPlayer().getLocation(),
-                        plugin.getConfigManager().getSound("flag_returned"), 1.0f, 1.0f);
+            game.broadcastMessage("flag-returned-clean", placeholders);
+            ctfPlayer.getPlayer().playSound(ctfPlayer.getPlayer().getLocation(),
+                    plugin.getConfigManager().getSound("flag_returned"), 1.0f, 1.0f);
 
-                // Show instant return title
-                String title = "§b§lFLAG RETURNED!";
-                String subtitle = "§a§l" + ctfPlayer.getTeam().getColorCode() + ctfPlayer.getTeam().getName().toUpperCase() + " FLAG";
+            // Show instant return title
+            String title = "§b§lFLAG RETURNED!";
+            String subtitle = "§a§l" + ctfPlayer.getTeam().getColorCode() + ctfPlayer.getTeam().getName().toUpperCase() + " FLAG";
 
-                ctfPlayer.getPlayer().sendTitle(title, subtitle, 10, 30, 10);
+            plugin.getHudManager().showTitle(ctfPlayer.getPlayer(), title, subtitle, 10, 30, 10, HudManager.Priority.HIGH);
 
-                plugin.getLogger().info("Player " + ctfPlayer.getPlayer().getName() + " instantly returned own flag");
+            plugin.getLogger().info("Player " + ctfPlayer.getPlayer().getName() + " instantly returned own flag");
 
-                // Update last attempt time
-                lastFlagTakeAttempt.put(playerId, System.currentTimeMillis());
-            }
+            // Update last attempt time
+            ctfPlayer.getSession().setLastFlagTakeTime(System.currentTimeMillis());
+            return true;
         }
     }
 
@@ -268,69 +351,38 @@ public class PlayerMoveListener implements Listener {
      */
     private void startAutomaticCaptureAttempt(CTFPlayer ctfPlayer, CTFGame game, Location capturePoint) {
         Player player = ctfPlayer.getPlayer();
-        UUID playerId = player.getUniqueId();
 
         int captureTimeSeconds = plugin.getConfigManager().getMainConfig().getInt("flag-capture.capture-time-seconds", 3);
         double captureRadius = plugin.getConfigManager().getMainConfig().getDouble("flag-capture.automatic-radius", 2.0);
 
-        CaptureAttempt attempt = new CaptureAttempt(player, capturePoint,
+        CaptureAttempt attempt = new CaptureAttempt(capturePoint,
                 ctfPlayer.getCarryingFlag().getTeam(),
                 captureTimeSeconds, captureRadius);
 
-        activeCaptureAttempts.put(playerId, attempt);
+        ctfPlayer.getSession().setCaptureAttempt(attempt);
 
         // Schedule capture completion check
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            checkCaptureCompletion(playerId, game);
+            checkCaptureCompletion(ctfPlayer, attempt, game);
         }, captureTimeSeconds * 20L);
 
         // Start title display if enabled
         if (plugin.getConfigManager().getMainConfig().getBoolean("flag-capture.show-capture-title", true)) {
-            startCaptureTitle(player, captureTimeSeconds);
-        }
-    }
-
-    /**
-     * Handle active capture attempts (check movement and update titles)
-     */
-    private void handleActiveCaptureAttempts(Player player) {
-        CaptureAttempt attempt = activeCaptureAttempts.get(player.getUniqueId());
-        if (attempt == null) {
-            return;
-        }
-
-        // Check if player is still in capture area
-        if (!attempt.isInArea(player.getLocation())) {
-            cancelCaptureAttempt(player.getUniqueId(), true);
-            return;
-        }
-
-        // Update title display
-        if (plugin.getConfigManager().getMainConfig().getBoolean("flag-capture.show-capture-title", true)) {
-            int timeRemaining = attempt.getTimeRemaining();
-            if (timeRemaining > 0) {
-                Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("time", String.valueOf(timeRemaining));
-
-                plugin.getMessageManager().sendTitle(player, "title-capturing-flag", "subtitle-capturing-flag", placeholders);
-            }
+            startCaptureTitle(player, ctfPlayer, attempt, captureTimeSeconds);
         }
     }
 
     /**
      * Start capture title display with countdown
      */
-    private void startCaptureTitle(Player player, int captureTimeSeconds) {
-        plugin.getServer().getScheduler().runTaskTimer(plugin, new Runnable() {
+    private void startCaptureTitle(Player player, CTFPlayer ctfPlayer, CaptureAttempt attempt, int captureTimeSeconds) {
+        new BukkitRunnable() {
             int timeLeft = captureTimeSeconds;
 
             @Override
             public void run() {
-                if (!player.isOnline() || !activeCaptureAttempts.containsKey(player.getUniqueId())) {
-                    return;
-                }
-
-                if (timeLeft <= 0) {
+                if (!player.isOnline() || ctfPlayer.getSession().getCaptureAttempt() != attempt || timeLeft <= 0) {
+                    cancel();
                     return;
                 }
 
@@ -338,38 +390,35 @@ public class PlayerMoveListener implements Listener {
                 Map<String, String> placeholders = new HashMap<>();
                 placeholders.put("time", String.valueOf(timeLeft));
 
-                plugin.getMessageManager().sendTitle(player, "title-capturing-flag", "subtitle-capturing-flag", placeholders);
+                plugin.getMessageManager().sendTitle(player, "title-capturing-flag", "subtitle-capturing-flag", placeholders,
+                        HudManager.Priority.LOW);
 
                 timeLeft--;
             }
-        }, 0L, 20L);
+        }.runTaskTimer(plugin, 0L, 20L);
     }
 
     /**
      * Check if capture attempt is completed
      */
-    private void checkCaptureCompletion(UUID playerId, CTFGame game) {
-        CaptureAttempt attempt = activeCaptureAttempts.get(playerId);
-        if (attempt == null) {
+    private void checkCaptureCompletion(CTFPlayer ctfPlayer, CaptureAttempt attempt, CTFGame game) {
+        PlayerSession session = ctfPlayer.getSession();
+        // Cancelled, or replaced by a newer attempt with its own check
+        if (session.getCaptureAttempt() != attempt) {
             return;
         }
+        session.setCaptureAttempt(null);
 
-        Player player = attempt.getPlayer();
-        if (!player.isOnline()) {
-            activeCaptureAttempts.remove(playerId);
-            return;
-        }
-
-        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
-        if (ctfPlayer == null || !ctfPlayer.isInGame()) {
-            activeCaptureAttempts.remove(playerId);
+        Player player = ctfPlayer.getPlayer();
+        if (player == null || !player.isOnline() || !ctfPlayer.isInGame()) {
             return;
         }
 
         // Check if player is still in capture area and still has flag
+        boolean success = false;
         if (attempt.isCompleted() && attempt.isInArea(player.getLocation()) && ctfPlayer.hasFlag()) {
             // Complete the capture
-            boolean success = game.captureFlag(ctfPlayer);
+            success = game.captureFlag(ctfPlayer);
             if (success) {
                 player.playSound(player.getLocation(),
                         plugin.getConfigManager().getSound("flag_captured"), 1.0f, 1.0f);
@@ -381,60 +430,28 @@ public class PlayerMoveListener implements Listener {
                 String title = "§a§lFLAG CAPTURED!";
                 String subtitle = "§e§l" + ctfPlayer.getTeam().getColorCode() + ctfPlayer.getTeam().getName().toUpperCase() + " TEAM";
 
-                player.sendTitle(title, subtitle, 10, 40, 10);
+                plugin.getHudManager().showTitle(player, title, subtitle, 10, 40, 10, HudManager.Priority.HIGH);
             }
         }
 
-        activeCaptureAttempts.remove(playerId);
+        // A refused capture counts as leaving the zone, so the next block change inside starts a new attempt
+        if (!success) {
+            session.setMovementZones(session.getMovementZones() & ~captureZoneBit);
+        }
     }
 
     /**
      * Cancel capture attempt
      */
-    private void cancelCaptureAttempt(UUID playerId, boolean showMessage) {
-        CaptureAttempt attempt = activeCaptureAttempts.remove(playerId);
+    private void cancelCaptureAttempt(CTFPlayer ctfPlayer, boolean showMessage) {
+        CaptureAttempt attempt = ctfPlayer.getSession().getCaptureAttempt();
+        ctfPlayer.getSession().setCaptureAttempt(null);
         if (attempt != null && showMessage) {
-            Player player = attempt.getPlayer();
+            Player player = ctfPlayer.getPlayer();
             if (player != null && player.isOnline()) {
-                player.sendTitle("§c§lCAPTURE CANCELLED", "§7You left the capture area", 10, 30, 10);
-            }
-        }
-    }
-
-    /**
-     * Check arena boundaries
-     */
-    private void checkArenaBoundaries(PlayerMoveEvent event, CTFPlayer ctfPlayer, CTFGame game) {
-        Arena arena = game.getArena();
-        Location playerLocation = event.getTo();
-
-        // Check if player is outside arena boundaries
-        // Check if player is outside WorldGuard region
-        if (!plugin.getWorldGuardManager().isLocationInRegion(playerLocation, arena.getWorldGuardRegion())) {
-            if (plugin.getConfigManager().getMainConfig().getBoolean("boundaries.teleport-back-on-exit", true)) {
-                event.setCancelled(true);
-
-                if (plugin.getConfigManager().getMainConfig().getBoolean("boundaries.warning-message-enabled", true)) {
-                    Map<String, String> placeholders = new HashMap<>();
-                    ctfPlayer.getPlayer().sendMessage(plugin.getConfigManager().getMessage("boundary-warning", placeholders));
-                }
+                plugin.getHudManager().showTitle(player, "§c§lCAPTURE CANCELLED", "§7You left the capture area", 10, 30, 10,
+                        HudManager.Priority.HIGH);
             }
         }
     }
-
-    /**
-     * Clean up capture attempts on player quit
-     */
-    public void cleanupPlayer(Player player) {
-        activeCaptureAttempts.remove(player.getUniqueId());
-        lastFlagTakeAttempt.remove(player.getUniqueId());
-    }
-
-    /**
-     * Clean up all capture attempts and flag take attempts
-     */
-    public void cleanup() {
-        activeCaptureAttempts.clear();
-        lastFlagTakeAttempt.clear();
-    }
-}
\ No newline at end of file
+}
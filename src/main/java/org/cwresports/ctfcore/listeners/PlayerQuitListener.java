@@ -4,6 +4,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.PerformanceManager;
 import org.cwresports.ctfcore.models.CTFPlayer;
 
 /**
@@ -13,13 +14,24 @@ import org.cwresports.ctfcore.models.CTFPlayer;
 public class PlayerQuitListener implements Listener {
 
     private final CTFCore plugin;
+    private final PerformanceManager.Timer quitTimer;
 
     public PlayerQuitListener(CTFCore plugin) {
         this.plugin = plugin;
+        this.quitTimer = plugin.getPerformanceManager().timer("listener.quit");
     }
 
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
+        long start = System.nanoTime();
+        try {
+            handlePlayerQuit(event);
+        } finally {
+            quitTimer.record(start);
+        }
+    }
+
+    private void handlePlayerQuit(PlayerQuitEvent event) {
         // Save player data before they quit
         CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(event.getPlayer());
         if (ctfPlayer != null) {
@@ -28,6 +40,9 @@ public class PlayerQuitListener implements Listener {
 
         // ENHANCED: Handle flag carrier disconnect edge case
         plugin.getGameManager().handlePlayerDisconnect(event.getPlayer());
+        plugin.getChatManager().untrackPlayer(event.getPlayer());
+        plugin.getPlaceholderCacheManager().invalidate(event.getPlayer().getUniqueId());
+        plugin.getHudManager().removePlayer(event.getPlayer());
 
         // Handle setup mode cleanup and incomplete arena deletion
         plugin.getArenaManager().handlePlayerQuit(event.getPlayer());
@@ -42,18 +57,9 @@ public class PlayerQuitListener implements Listener {
         // Clean up lobby manager state
         plugin.getLobbyManager().onPlayerQuit(event.getPlayer());
 
-        // Clean up player move listener capture attempts
-        if (plugin.getServer().getPluginManager().getPlugin("CTF-Core") != null) {
-            try {
-                // Clean up any active automatic capture attempts
-                // This is handled by the PlayerMoveListener's cleanup method
-                Object moveListener = plugin.getServer().getPluginManager().getPlugin("CTF-Core");
-                if (moveListener instanceof PlayerMoveListener) {
-                    ((PlayerMoveListener) moveListener).cleanupPlayer(event.getPlayer());
-                }
-            } catch (Exception e) {
-                // Ignore cleanup errors
-            }
+        // Drop the cached player handle so the old instance is not held after logout
+        if (ctfPlayer != null) {
+            ctfPlayer.detachPlayer();
         }
     }
 }
\ No newline at end of file
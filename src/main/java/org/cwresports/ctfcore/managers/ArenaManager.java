@@ -22,6 +22,9 @@ public class ArenaManager {
     private final Map<String, Arena> arenas;
     private final Map<Player, SetupSession> activeSetupSessions;
 
+    // Replaced as a whole whenever arenas are loaded, created or deleted
+    private volatile Set<String> arenaWorlds = Set.of();
+
     public enum SetupMode {
         FLAG_PLACEMENT,
         CAPTURE_POINT_PLACEMENT
@@ -47,6 +50,26 @@ public class ArenaManager {
         this.activeSetupSessions = new ConcurrentHashMap<>();
     }
 
+    /**
+     * Rebuild the set of worlds hosting an arena, read by listeners to skip events elsewhere
+     */
+    private void refreshArenaWorlds() {
+        Set<String> worlds = new HashSet<>();
+        for (Arena arena : arenas.values()) {
+            if (arena.getWorldName() != null) {
+                worlds.add(arena.getWorldName());
+            }
+        }
+        arenaWorlds = Set.copyOf(worlds);
+    }
+
+    /**
+     * Whether any arena, enabled or still being set up, is located in the world
+     */
+    public boolean isArenaWorld(World world) {
+        return arenaWorlds.contains(world.getName());
+    }
+
     /**
      * Load all arenas from configuration
      * Only loads arenas that are marked as enabled
@@ -58,6 +81,7 @@ public class ArenaManager {
         ConfigurationSection arenasSection = config.getConfigurationSection("arenas");
 
         if (arenasSection == null) {
+            refreshArenaWorlds();
             plugin.getLogger().info("No arenas section found in arenas.yml");
             return;
         }
@@ -81,6 +105,7 @@ public class ArenaManager {
             }
         }
 
+        refreshArenaWorlds();
         plugin.getLogger().info("Loaded " + totalLoaded + " arenas (" + enabledLoaded + " enabled)");
     }
 
@@ -138,6 +163,7 @@ public class ArenaManager {
         arena.setWorldName(worldName);
 
         arenas.put(name, arena);
+        refreshArenaWorlds();
 
         // Save immediately to prevent loss
         saveArena(arena);
@@ -160,6 +186,7 @@ public class ArenaManager {
 
         // Remove from memory
         arenas.remove(name);
+        refreshArenaWorlds();
 
         // Remove from configuration
         FileConfiguration config = plugin.getConfigManager().getArenas();
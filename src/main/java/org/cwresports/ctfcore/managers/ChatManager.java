@@ -1,162 +1,234 @@
 package org.cwresports.ctfcore.managers;
 
+import io.papermc.paper.chat.ChatRenderer;
+import io.papermc.paper.event.player.AsyncChatEvent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.cwresports.ctfcore.CTFCore;
 import org.cwresports.ctfcore.models.Arena;
-import org.cwresports.ctfcore.models.CTFGame;
 import org.cwresports.ctfcore.models.CTFPlayer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages chat formatting with level, rank integration, and arena isolation
+ * Chat runs off the main thread, so routing only reads the concurrent audience sets and profiles kept here,
+ * which the game manager updates from the main thread as players move between lobby, arenas and teams
  */
 public class ChatManager {
 
     private final CTFCore plugin;
 
+    // Online players outside of games
+    private final Set<UUID> lobbyAudience;
+    // Players per arena name, and per arena name and team
+    private final Map<String, Set<UUID>> arenaAudiences;
+    private final Map<String, Set<UUID>> teamAudiences;
+    private final Map<UUID, ChatProfile> profiles;
+
+    /**
+     * Level, arena and team of a player as seen by the chat thread
+     */
+    private static class ChatProfile {
+        private final int level;
+        private final String arena;
+        private final Arena.TeamColor team;
+
+        ChatProfile(int level, String arena, Arena.TeamColor team) {
+            this.level = level;
+            this.arena = arena;
+            this.team = team;
+        }
+    }
+
     public ChatManager(CTFCore plugin) {
         this.plugin = plugin;
+        this.lobbyAudience = ConcurrentHashMap.newKeySet();
+        this.arenaAudiences = new ConcurrentHashMap<>();
+        this.teamAudiences = new ConcurrentHashMap<>();
+        this.profiles = new ConcurrentHashMap<>();
     }
 
     /**
-     * Format and route chat message with arena isolation support
+     * Start tracking a player who joined the server
      */
-    public boolean handleChatMessage(Player player, String message) {
-        if (!plugin.getConfigManager().getScoreboards().getBoolean("chat.enabled", true)) {
-            return false; // Let default chat handle it
-        }
+    public void trackPlayer(Player player) {
+        UUID playerId = player.getUniqueId();
+        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
 
-        boolean arenaIsolation = plugin.getConfigManager().getScoreboards().getBoolean("chat.arena-isolation", true);
-        String globalPrefix = plugin.getConfigManager().getScoreboards().getString("chat.global-chat-command", "!");
-        String teamPrefix = plugin.getConfigManager().getScoreboards().getString("chat.team-chat-command", "@");
+        int level;
+        if (ctfPlayer != null) {
+            level = ctfPlayer.getLevel();
+        } else {
+            Map<String, Object> playerData = plugin.getPlayerDataManager().loadPlayerData(playerId);
+            level = (Integer) playerData.getOrDefault("level", 1);
+        }
+        profiles.compute(playerId, (id, profile) -> profile == null ?
+                new ChatProfile(level, null, null) : new ChatProfile(level, profile.arena, profile.team));
 
-        // Check for global chat prefix
-        if (message.startsWith(globalPrefix) && arenaIsolation) {
-            String globalMessage = message.substring(globalPrefix.length()).trim();
-            sendGlobalMessage(player, globalMessage);
-            return true;
+        if (ctfPlayer == null || !ctfPlayer.isInGame()) {
+            lobbyAudience.add(playerId);
         }
+    }
 
-        // Check for team chat prefix
-        if (message.startsWith(teamPrefix)) {
-            String teamMessage = message.substring(teamPrefix.length()).trim();
-            sendTeamMessage(player, teamMessage);
-            return true;
+    /**
+     * Stop tracking a player who left the server
+     * Arena membership is kept for reconnection and dropped when the game removes the player
+     */
+    public void untrackPlayer(Player player) {
+        UUID playerId = player.getUniqueId();
+        lobbyAudience.remove(playerId);
+        profiles.computeIfPresent(playerId, (id, profile) -> profile.arena != null ? profile : null);
+    }
+
+    /**
+     * Move a player from the lobby audience into an arena
+     */
+    public void joinArena(String arena, UUID playerId, Arena.TeamColor team) {
+        lobbyAudience.remove(playerId);
+        arenaAudiences.computeIfAbsent(arena, name -> ConcurrentHashMap.newKeySet()).add(playerId);
+        if (team != null) {
+            teamAudiences.computeIfAbsent(teamKey(arena, team), key -> ConcurrentHashMap.newKeySet()).add(playerId);
         }
+        profiles.compute(playerId, (id, profile) ->
+                new ChatProfile(profile != null ? profile.level : 1, arena, team));
+    }
 
-        // Regular arena chat
-        if (arenaIsolation) {
-            sendArenaMessage(player, message);
-            return true;
+    /**
+     * Move a player from an arena back to the lobby audience
+     */
+    public void leaveArena(String arena, UUID playerId, Arena.TeamColor team) {
+        Set<UUID> arenaAudience = arenaAudiences.get(arena);
+        if (arenaAudience != null) {
+            arenaAudience.remove(playerId);
+        }
+        if (team != null) {
+            Set<UUID> teamAudience = teamAudiences.get(teamKey(arena, team));
+            if (teamAudience != null) {
+                teamAudience.remove(playerId);
+            }
         }
 
-        // Format for global broadcast
-        String formattedMessage = formatChatMessage(player, message);
-        if (formattedMessage != null) {
-            Bukkit.broadcastMessage(formattedMessage);
-            return true;
+        if (Bukkit.getPlayer(playerId) != null) {
+            lobbyAudience.add(playerId);
+            profiles.computeIfPresent(playerId, (id, profile) -> new ChatProfile(profile.level, null, null));
+        } else {
+            profiles.remove(playerId);
         }
+    }
 
-        return false;
+    /**
+     * Move a player between team audiences of an arena
+     */
+    public void setTeam(String arena, UUID playerId, Arena.TeamColor oldTeam, Arena.TeamColor newTeam) {
+        if (oldTeam != null) {
+            Set<UUID> teamAudience = teamAudiences.get(teamKey(arena, oldTeam));
+            if (teamAudience != null) {
+                teamAudience.remove(playerId);
+            }
+        }
+        if (newTeam != null) {
+            teamAudiences.computeIfAbsent(teamKey(arena, newTeam), key -> ConcurrentHashMap.newKeySet()).add(playerId);
+        }
+        profiles.computeIfPresent(playerId, (id, profile) -> new ChatProfile(profile.level, profile.arena, newTeam));
     }
 
     /**
-     * Send message to all players (global chat)
+     * Update the cached level shown in chat
      */
-    private void sendGlobalMessage(Player player, String message) {
-        String template = "&7[GLOBAL] " + plugin.getConfigManager().getScoreboards().getString("chat.format",
-                "&7[{level}] {luckperms_prefix}{team_prefix}{player}{luckperms_suffix}: &f{message}");
+    public void updateLevel(UUID playerId, int level) {
+        profiles.computeIfPresent(playerId, (id, profile) -> new ChatProfile(level, profile.arena, profile.team));
+    }
 
-        String formatted = formatMessage(player, message, template);
-        Bukkit.broadcastMessage(formatted);
+    private static String teamKey(String arena, Arena.TeamColor team) {
+        return arena + ":" + team.name();
     }
 
     /**
-     * Send message only to team members
+     * Format and route a chat event with arena isolation support
+     * The formatted line is rendered once and delivered through the event viewers
      */
-    private void sendTeamMessage(Player player, String message) {
-        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
-        if (ctfPlayer == null || !ctfPlayer.isInGame() || ctfPlayer.getTeam() == null) {
-            player.sendMessage("§c❌ You must be in a game with a team to use team chat!");
+    public void handleChat(AsyncChatEvent event) {
+        Player player = event.getPlayer();
+        String message = PlainTextComponentSerializer.plainText().serialize(event.message());
+
+        if (!plugin.getConfigManager().getScoreboards().getBoolean("chat.enabled", true)) {
+            render(event, formatChatMessage(player, message));
             return;
         }
 
-        String teamColor = ctfPlayer.getTeam().getColorCode();
-        String template = teamColor + "[TEAM] " + plugin.getConfigManager().getScoreboards().getString("chat.format",
+        boolean arenaIsolation = plugin.getConfigManager().getScoreboards().getBoolean("chat.arena-isolation", true);
+        String globalPrefix = plugin.getConfigManager().getScoreboards().getString("chat.global-chat-command", "!");
+        String teamPrefix = plugin.getConfigManager().getScoreboards().getString("chat.team-chat-command", "@");
+        String format = plugin.getConfigManager().getScoreboards().getString("chat.format",
                 "&7[{level}] {luckperms_prefix}{team_prefix}{player}{luckperms_suffix}: &f{message}");
+        ChatProfile profile = profiles.get(player.getUniqueId());
 
-        String formatted = formatMessage(player, message, template);
+        // Global chat goes to everyone
+        if (message.startsWith(globalPrefix) && arenaIsolation) {
+            String globalMessage = message.substring(globalPrefix.length()).trim();
+            render(event, formatMessage(player, globalMessage, "&7[GLOBAL] " + format));
+            return;
+        }
 
-        // Send to team members only
-        CTFGame game = ctfPlayer.getGame();
-        for (CTFPlayer teamPlayer : game.getPlayersOnTeam(ctfPlayer.getTeam())) {
-            if (teamPlayer.getPlayer() != null && teamPlayer.getPlayer().isOnline()) {
-                teamPlayer.getPlayer().sendMessage(formatted);
+        // Team chat goes to team members only
+        if (message.startsWith(teamPrefix)) {
+            if (profile == null || profile.arena == null || profile.team == null) {
+                player.sendMessage("§c❌ You must be in a game with a team to use team chat!");
+                event.setCancelled(true);
+                return;
             }
+
+            String teamMessage = message.substring(teamPrefix.length()).trim();
+            restrictViewers(event, teamAudiences.getOrDefault(teamKey(profile.arena, profile.team), Collections.emptySet()));
+            render(event, formatMessage(player, teamMessage, profile.team.getColorCode() + "[TEAM] " + format));
+            return;
+        }
+
+        // Regular chat stays within the arena, or within the lobby for players outside of games
+        if (arenaIsolation) {
+            Set<UUID> audience = profile != null && profile.arena != null ?
+                    arenaAudiences.getOrDefault(profile.arena, Collections.emptySet()) : lobbyAudience;
+            restrictViewers(event, audience);
+            render(event, formatMessage(player, message, format));
+            return;
         }
+
+        render(event, formatChatMessage(player, message));
     }
 
     /**
-     * Send message only to players in the same arena
+     * Drop every player viewer outside the audience, leaving the console in place
      */
-    private void sendArenaMessage(Player player, String message) {
-        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
-        List<Player> recipients = new ArrayList<>();
-
-        if (ctfPlayer != null && ctfPlayer.isInGame()) {
-            // Send to players in the same game
-            CTFGame game = ctfPlayer.getGame();
-            for (CTFPlayer gamePlayer : game.getPlayers()) {
-                if (gamePlayer.getPlayer() != null && gamePlayer.getPlayer().isOnline()) {
-                    recipients.add(gamePlayer.getPlayer());
-                }
-            }
-        } else {
-            // Send to lobby players (not in games)
-            for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
-                CTFPlayer onlineCTFPlayer = plugin.getGameManager().getCTFPlayer(onlinePlayer);
-                if (onlineCTFPlayer == null || !onlineCTFPlayer.isInGame()) {
-                    recipients.add(onlinePlayer);
-                }
-            }
-        }
-
-        String template = plugin.getConfigManager().getScoreboards().getString("chat.format",
-                "&7[{level}] {luckperms_prefix}{team_prefix}{player}{luckperms_suffix}: &f{message}");
-        String formatted = formatMessage(player, message, template);
+    private void restrictViewers(AsyncChatEvent event, Set<UUID> audience) {
+        event.viewers().removeIf(viewer -> viewer instanceof Player && !audience.contains(((Player) viewer).getUniqueId()));
+    }
 
-        // Send to recipients
-        for (Player recipient : recipients) {
-            recipient.sendMessage(formatted);
-        }
+    private void render(AsyncChatEvent event, String formatted) {
+        Component line = MessageTemplate.LEGACY_SERIALIZER.deserialize(formatted);
+        event.renderer(ChatRenderer.viewerUnaware((source, sourceDisplayName, message) -> line));
     }
 
     /**
      * Format chat message with template
      */
     private String formatMessage(Player player, String message, String template) {
-        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
+        ChatProfile profile = profiles.get(player.getUniqueId());
 
-        // Always get fresh level data to avoid caching issues
-        int level = 1;
-        if (ctfPlayer != null) {
-            level = ctfPlayer.getLevel();
-        } else {
-            // Load fresh player data if not in game
-            Map<String, Object> playerData = plugin.getPlayerDataManager().loadPlayerData(player.getUniqueId());
-            level = (Integer) playerData.getOrDefault("level", 1);
-        }
+        // Level and team come from the profile cache, never from player data on the chat thread
+        int level = profile != null ? profile.level : 1;
 
         // Team prefix
         String teamPrefix = "";
-        if (ctfPlayer != null && ctfPlayer.getTeam() != null) {
-            Arena.TeamColor teamColor = ctfPlayer.getTeam();
-            teamPrefix = teamColor.getColorCode() + "● ";
+        if (profile != null && profile.team != null) {
+            teamPrefix = profile.team.getColorCode() + "● ";
         }
 
         // Process color codes if player has permission
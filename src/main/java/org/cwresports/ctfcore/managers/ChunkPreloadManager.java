@@ -0,0 +1,197 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.models.Arena;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pre-warms arena chunks while a game is counting down
+ * Chunks around spawns, flags and capture points are loaded asynchronously and
+ * held with plugin chunk tickets until the game is cleaned up
+ * Tickets belong to the plugin rather than an arena, so they are counted per chunk
+ * and only removed once no arena sharing the world still holds the chunk
+ */
+public class ChunkPreloadManager {
+
+    private final CTFCore plugin;
+    private final Map<String, PreloadSession> sessions;
+    private final Map<UUID, Map<Long, Integer>> ticketCounts;
+
+    /**
+     * Tracks the chunks requested and ticketed for a single arena
+     */
+    private static class PreloadSession {
+        private final World world;
+        private final Set<Long> ticketedChunks;
+        private final AtomicInteger pending;
+        private final long startTime;
+        private volatile boolean released;
+
+        public PreloadSession(World world, int chunkCount) {
+            this.world = world;
+            this.ticketedChunks = ConcurrentHashMap.newKeySet();
+            this.pending = new AtomicInteger(chunkCount);
+            this.startTime = System.currentTimeMillis();
+            this.released = false;
+        }
+
+        public boolean isComplete() {
+            return pending.get() <= 0;
+        }
+    }
+
+    public ChunkPreloadManager(CTFCore plugin) {
+        this.plugin = plugin;
+        this.sessions = new ConcurrentHashMap<>();
+        this.ticketCounts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Start loading and ticketing all important chunks of an arena
+     */
+    public void preloadArena(Arena arena) {
+        if (!plugin.getConfigManager().getMainConfig().getBoolean("gameplay.chunk-preload.enabled", true)) {
+            return;
+        }
+
+        if (sessions.containsKey(arena.getName())) {
+            return; // Already preloading or preloaded
+        }
+
+        World world = arena.getWorld();
+        if (world == null) {
+            return;
+        }
+
+        int radius = Math.max(0, plugin.getConfigManager().getMainConfig().getInt("gameplay.chunk-preload.radius", 2));
+        Set<Long> chunkKeys = collectChunkKeys(arena, world, radius);
+        if (chunkKeys.isEmpty()) {
+            return;
+        }
+
+        PreloadSession session = new PreloadSession(world, chunkKeys.size());
+        sessions.put(arena.getName(), session);
+
+        for (long chunkKey : chunkKeys) {
+            int chunkX = (int) chunkKey;
+            int chunkZ = (int) (chunkKey >> 32);
+
+            world.getChunkAtAsync(chunkX, chunkZ, true).whenComplete((chunk, throwable) -> {
+                if (throwable != null) {
+                    plugin.getLogger().warning("Could not preload chunk " + chunkX + "," + chunkZ +
+                            " for arena " + arena.getName() + ": " + throwable.getMessage());
+                } else if (chunk != null && !session.released && session.ticketedChunks.add(chunkKey)) {
+                    acquireTicket(chunk, chunkKey);
+                }
+
+                if (session.pending.decrementAndGet() == 0 && !session.released) {
+                    plugin.getLogger().info("Preloaded " + session.ticketedChunks.size() + " chunks for arena " +
+                            arena.getName() + " in " + (System.currentTimeMillis() - session.startTime) + "ms");
+                }
+            });
+        }
+    }
+
+    /**
+     * Collect chunk keys around every spawn, flag and capture point of the arena
+     */
+    private Set<Long> collectChunkKeys(Arena arena, World world, int radius) {
+        List<Location> anchors = new ArrayList<>();
+        anchors.add(arena.getLobbySpawn());
+
+        for (Arena.TeamColor color : Arena.TeamColor.values()) {
+            Arena.Team team = arena.getTeam(color);
+            if (team == null) {
+                continue;
+            }
+            anchors.addAll(Arrays.asList(team.getSpawnPoints()));
+            anchors.add(team.getFlagLocation());
+            anchors.add(team.getCapturePoint());
+        }
+
+        Set<Long> chunkKeys = new LinkedHashSet<>();
+        for (Location anchor : anchors) {
+            if (anchor == null || anchor.getWorld() == null || !anchor.getWorld().equals(world)) {
+                continue;
+            }
+
+            int centerX = anchor.getBlockX() >> 4;
+            int centerZ = anchor.getBlockZ() >> 4;
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                    chunkKeys.add(Chunk.getChunkKey(x, z));
+                }
+            }
+        }
+
+        return chunkKeys;
+    }
+
+    /**
+     * Check whether all requested chunks of an arena have finished loading
+     * Arenas without an active preload session are treated as ready
+     */
+    public boolean isPreloaded(Arena arena) {
+        PreloadSession session = sessions.get(arena.getName());
+        return session == null || session.isComplete();
+    }
+
+    /**
+     * Release all chunk tickets held for an arena
+     */
+    public void releaseArena(Arena arena) {
+        PreloadSession session = sessions.remove(arena.getName());
+        if (session == null) {
+            return;
+        }
+
+        session.released = true;
+        for (long chunkKey : session.ticketedChunks) {
+            releaseTicket(session.world, chunkKey);
+        }
+        session.ticketedChunks.clear();
+    }
+
+    /**
+     * Count an arena's hold on a chunk, adding the plugin ticket for the first one
+     */
+    private void acquireTicket(Chunk chunk, long chunkKey) {
+        Map<Long, Integer> counts = ticketCounts.computeIfAbsent(chunk.getWorld().getUID(), uid -> new ConcurrentHashMap<>());
+        if (counts.merge(chunkKey, 1, Integer::sum) == 1) {
+            chunk.addPluginChunkTicket(plugin);
+        }
+    }
+
+    /**
+     * Drop an arena's hold on a chunk, removing the plugin ticket once no arena holds it
+     */
+    private void releaseTicket(World world, long chunkKey) {
+        Map<Long, Integer> counts = ticketCounts.get(world.getUID());
+        if (counts == null || !counts.containsKey(chunkKey)) {
+            return;
+        }
+
+        Integer remaining = counts.computeIfPresent(chunkKey, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            world.removePluginChunkTicket((int) chunkKey, (int) (chunkKey >> 32), plugin);
+        }
+    }
+
+    /**
+     * Shutdown cleanup
+     */
+    public void shutdown() {
+        for (PreloadSession session : sessions.values()) {
+            session.released = true;
+            session.world.removePluginChunkTickets(plugin);
+        }
+        sessions.clear();
+        ticketCounts.clear();
+    }
+}
@@ -0,0 +1,188 @@
+package org.cwresports.ctfcore.managers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single-pass translator for & color codes, &#RRGGBB hex colors and bold/color ordering
+ * Produces the same output as the previous regex and replace chain in MessageManager
+ * Recently translated strings are kept in a small LRU cache since most messages are constants
+ */
+public class ColorTranslator {
+
+    private static final char SECTION = '§';
+    private static final String CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
+    // Colors that are moved in front of a preceding bold code, in the order the old replace chain applied them
+    private static final String BOLD_SWAP_COLORS = "caebdf69";
+
+    private static final int DEFAULT_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_LENGTH = 256;
+
+    private final Map<String, String> cache;
+
+    public ColorTranslator() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public ColorTranslator(int cacheSize) {
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Translate text, reusing the cached result for recently seen input
+     */
+    public String translateCached(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        if (text.length() > MAX_CACHED_LENGTH) {
+            return translate(text);
+        }
+
+        synchronized (cache) {
+            String cached = cache.get(text);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String translated = translate(text);
+        synchronized (cache) {
+            cache.put(text, translated);
+        }
+        return translated;
+    }
+
+    /**
+     * Translate & codes and &#RRGGBB hex colors to section codes in one scan
+     * Bold codes directly followed by a color are reordered so the color comes first
+     */
+    public static String translate(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        int length = text.length();
+        if (text.indexOf('&') < 0 && text.indexOf(SECTION) < 0) {
+            return text;
+        }
+
+        // Hex colors grow from 8 to 14 characters, the largest growth of any input
+        char[] out = new char[length * 7 / 4 + 8];
+        int size = 0;
+        boolean hasBold = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c == '&' && i + 1 < length) {
+                char next = text.charAt(i + 1);
+
+                if (next == '#' && isHexColor(text, i + 2)) {
+                    out[size++] = SECTION;
+                    out[size++] = 'x';
+                    for (int digit = i + 2; digit < i + 8; digit++) {
+                        out[size++] = SECTION;
+                        out[size++] = text.charAt(digit);
+                    }
+                    i += 7;
+                    continue;
+                }
+
+                if (CODES.indexOf(next) >= 0) {
+                    char code = Character.toLowerCase(next);
+                    out[size++] = SECTION;
+                    out[size++] = code;
+                    hasBold |= code == 'l';
+                    i++;
+                    continue;
+                }
+            } else if (c == SECTION && i + 1 < length && text.charAt(i + 1) == 'l') {
+                hasBold = true;
+            }
+
+            out[size++] = c;
+        }
+
+        if (hasBold) {
+            size = reorderBoldColors(out, size);
+        }
+
+        return new String(out, 0, size);
+    }
+
+    private static boolean isHexColor(String text, int start) {
+        if (start + 6 > text.length()) {
+            return false;
+        }
+        for (int i = start; i < start + 6; i++) {
+            char c = text.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Move colors in front of a preceding bold code, in place
+     * A bold code keeps moving right past colors that the old chain swapped later,
+     * which reproduces the result of its sequential replace passes exactly
+     */
+    private static int reorderBoldColors(char[] buffer, int size) {
+        int write = 0;
+        int read = 0;
+
+        while (read < size) {
+            int rank = boldSwapRank(buffer, read, size);
+            if (rank < 0) {
+                buffer[write++] = buffer[read++];
+                continue;
+            }
+
+            // "§l§X": emit the color, then carry the bold code past any later-ranked colors
+            buffer[write++] = SECTION;
+            buffer[write++] = buffer[read + 3];
+            read += 4;
+
+            int nextRank;
+            while (read + 1 < size && buffer[read] == SECTION &&
+                    (nextRank = BOLD_SWAP_COLORS.indexOf(buffer[read + 1])) > rank) {
+                buffer[write++] = SECTION;
+                buffer[write++] = buffer[read + 1];
+                read += 2;
+                rank = nextRank;
+            }
+
+            buffer[write++] = SECTION;
+            buffer[write++] = 'l';
+        }
+
+        return write;
+    }
+
+    /**
+     * Get the swap rank if a bold code followed by a swappable color starts at the index, otherwise -1
+     */
+    private static int boldSwapRank(char[] buffer, int index, int size) {
+        if (index + 3 >= size || buffer[index] != SECTION || buffer[index + 1] != 'l' || buffer[index + 2] != SECTION) {
+            return -1;
+        }
+        return BOLD_SWAP_COLORS.indexOf(buffer[index + 3]);
+    }
+
+    /**
+     * Clear cached translations
+     */
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.cwresports.ctfcore.managers;
 
+import net.kyori.adventure.text.Component;
 import org.bukkit.ChatColor;
 import org.bukkit.Sound;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -12,6 +13,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages all configuration files for the plugin including level system settings
@@ -23,10 +25,14 @@ public class ConfigManager {
     private final Map<String, FileConfiguration> configs;
     private final Map<String, File> configFiles;
 
+    // Parsed message and scoreboard templates, dropped whenever a config file is reloaded
+    private final Map<String, MessageTemplate> templates;
+
     public ConfigManager(CTFCore plugin) {
         this.plugin = plugin;
         this.configs = new HashMap<>();
         this.configFiles = new HashMap<>();
+        this.templates = new ConcurrentHashMap<>();
     }
 
     /**
@@ -36,6 +42,7 @@ public class ConfigManager {
         loadConfig("config.yml");
         loadConfig("messages.yml");
         loadConfig("scoreboards.yml");  // NEW: Load scoreboards config
+        loadConfig("kits.yml");
         createConfig("arenas.yml"); // Create if doesn't exist
         loadConfig("arenas.yml");
         createConfig("playerdata.yml"); // Create player data file
@@ -63,6 +70,7 @@ public class ConfigManager {
 
         configs.put(fileName, config);
         configFiles.put(fileName, file);
+        templates.clear();
 
         plugin.getLogger().info("Loaded configuration: " + fileName);
     }
@@ -164,7 +172,7 @@ public class ConfigManager {
         message = ChatColor.translateAlternateColorCodes('&', message);
 
         // Add prefix if not a help message or status display
-        if (!key.startsWith("help-") && !key.startsWith("status-") && !key.equals("plugin-prefix")) {
+        if (hasPrefix(key)) {
             String prefix = ChatColor.translateAlternateColorCodes('&', getMessages().getString("plugin-prefix", ""));
             message = prefix + message;
         }
@@ -179,6 +187,58 @@ public class ConfigManager {
         return getMessage(key, null);
     }
 
+    /**
+     * Get a message as a component, with the same prefix rules as getMessage
+     * Prefix and body are separate templates, so a MiniMessage body is not forced onto the legacy parser
+     * by the & codes of the prefix
+     */
+    public Component getMessageComponent(String key, Map<String, String> placeholders) {
+        Component body = getMessageTemplate(key).render(placeholders);
+        if (!hasPrefix(key)) {
+            return body;
+        }
+        return Component.textOfChildren(getMessageTemplate("plugin-prefix").render(null), body);
+    }
+
+    /**
+     * Get a message as a component without placeholders
+     */
+    public Component getMessageComponent(String key) {
+        return getMessageComponent(key, null);
+    }
+
+    /**
+     * Get the parsed chat template for a message key, without the prefix
+     */
+    public MessageTemplate getMessageTemplate(String key) {
+        return templates.computeIfAbsent("message:" + key, cacheKey ->
+                MessageTemplate.compile(getMessages().getString(key, "&cMessage not found: " + key), false));
+    }
+
+    /**
+     * Whether getMessage adds the plugin prefix to a message key
+     */
+    private boolean hasPrefix(String key) {
+        return !key.startsWith("help-") && !key.startsWith("status-") && !key.equals("plugin-prefix");
+    }
+
+    /**
+     * Get the parsed template for a title, subtitle or boss bar message
+     * These are shown without the prefix and use the enhanced color processing
+     */
+    public MessageTemplate getTitleTemplate(String key) {
+        return templates.computeIfAbsent("title:" + key, cacheKey ->
+                MessageTemplate.compile(getMessages().getString(key, "&cMessage not found: " + key), true));
+    }
+
+    /**
+     * Get the parsed template for a scoreboards.yml entry
+     */
+    public MessageTemplate getScoreboardTemplate(String path, String defaultValue) {
+        return templates.computeIfAbsent("scoreboard:" + path, cacheKey ->
+                MessageTemplate.compile(getScoreboards().getString(path, defaultValue), false));
+    }
+
     /**
      * Get a sound by configuration key
      */
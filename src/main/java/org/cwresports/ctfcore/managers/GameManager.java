@@ -12,6 +12,7 @@ import org.cwresports.ctfcore.CTFCore;
 import org.cwresports.ctfcore.models.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -23,11 +24,10 @@ public class GameManager {
     private final CTFCore plugin;
     private final Map<Arena, CTFGame> activeGames;
     private final Map<UUID, CTFPlayer> players;
-    private final Map<UUID, Long> spawnProtection;
-    private final Map<UUID, Integer> killStreaks;
-    private final Map<Arena.TeamColor, Integer> teamKillCounts;
-    private final Map<UUID, BukkitTask> respawnTasks;
     private final Map<UUID, PlayerReconnectionData> reconnectionData;
+    private final Random random;
+    private final PerformanceManager.Timer gameClockTimer;
+    private final PerformanceManager.Timer positionCacheTimer;
 
     /**
      * Stores data needed for player reconnection
@@ -62,14 +62,17 @@ public class GameManager {
         this.plugin = plugin;
         this.activeGames = new ConcurrentHashMap<>();
         this.players = new ConcurrentHashMap<>();
-        this.spawnProtection = new ConcurrentHashMap<>();
-        this.killStreaks = new ConcurrentHashMap<>();
-        this.teamKillCounts = new ConcurrentHashMap<>();
-        this.respawnTasks = new ConcurrentHashMap<>();
         this.reconnectionData = new ConcurrentHashMap<>();
+        this.random = new Random();
+        this.gameClockTimer = plugin.getPerformanceManager().timer("task.game-clock");
+        this.positionCacheTimer = plugin.getPerformanceManager().timer("task.position-cache");
 
         // Start cleanup task for old reconnection data
         startReconnectionCleanupTask();
+
+        // Start per-tick position snapshot for running games
+        startPositionCacheTask();
+        startGameClockTask();
     }
 
     /**
@@ -103,17 +106,19 @@ public class GameManager {
 
         // Add to game
         game.addPlayer(ctfPlayer);
+        plugin.getPlaceholderCacheManager().invalidate(player.getUniqueId());
 
         // Teleport to lobby
         if (arena.getLobbySpawn() != null) {
-            player.teleport(arena.getLobbySpawn());
+            plugin.getTeleportManager().teleport(player, arena.getLobbySpawn());
         }
 
         // Clear any existing items and give lobby items
         player.getInventory().clear();
         plugin.getLobbyManager().giveLobbyItems(player);
 
-        // Update lobby boss bar
+        // Show the shared game boss bar and update it
+        plugin.getMessageManager().showGameBossBar(game, player);
         plugin.getMessageManager().updateLobbyBossBar(game);
 
         // Update scoreboard
@@ -147,18 +152,13 @@ public class GameManager {
         // Remove from game
         game.removePlayer(ctfPlayer);
         players.remove(player.getUniqueId());
+        plugin.getPlaceholderCacheManager().invalidate(player.getUniqueId());
 
-        // Clear spawn protection
-        removeSpawnProtection(player);
-        killStreaks.remove(player.getUniqueId());
-
-        // Cancel respawn task if active and reset game mode
-        BukkitTask respawnTask = respawnTasks.remove(player.getUniqueId());
-        if (respawnTask != null) {
-            respawnTask.cancel();
-            if (player.getGameMode() == GameMode.SPECTATOR) {
-                player.setGameMode(GameMode.SURVIVAL);
-            }
+        // Tear down spawn protection, respawn countdown, capture and interaction state
+        boolean respawning = ctfPlayer.getSession().getRespawnTask() != null;
+        ctfPlayer.getSession().close();
+        if (respawning && player.getGameMode() == GameMode.SPECTATOR) {
+            player.setGameMode(GameMode.SURVIVAL);
         }
 
         // Clear inventory and effects
@@ -196,6 +196,9 @@ public class GameManager {
         } else {
             // No players left, remove the game
             activeGames.remove(game.getArena());
+            plugin.getListenerGateManager().updateRegistrations();
+            plugin.getChunkPreloadManager().releaseArena(game.getArena());
+            plugin.getMessageManager().removeGameBossBar(game);
         }
     }
 
@@ -231,7 +234,7 @@ public class GameManager {
     private void startGameCountdown(CTFGame game) {
         game.setState(GameState.STARTING);
         int countdownTime = plugin.getConfigManager().getGameplaySetting("pre-game-countdown-seconds", 20);
-        game.setTimeLeft(countdownTime);
+        game.startClock(countdownTime);
 
         // Update lobby items for all players
         for (CTFPlayer ctfPlayer : game.getPlayers()) {
@@ -244,31 +247,8 @@ public class GameManager {
         // Assign players to teams
         assignTeams(game);
 
-        // Start countdown task
-        BukkitTask countdownTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                int timeLeft = game.getTimeLeft();
-
-                if (timeLeft <= 0) {
-                    startGame(game);
-                    cancel();
-                    return;
-                }
-
-                // Update boss bar
-                plugin.getMessageManager().updateCountdownBossBar(game, timeLeft);
-
-                // Send countdown messages
-                if (timeLeft <= 5) {
-                    Map<String, String> placeholders = new HashMap<>();
-                    placeholders.put("time", String.valueOf(timeLeft));
-                    game.broadcastMessage("countdown-" + timeLeft, placeholders);
-                }
-
-                game.setTimeLeft(timeLeft - 1);
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
+        // Warm up arena chunks so the team spawn teleport does not load them synchronously
+        plugin.getChunkPreloadManager().preloadArena(game.getArena());
 
         plugin.getLogger().info("Started countdown for game in arena: " + game.getArena().getName());
     }
@@ -278,6 +258,8 @@ public class GameManager {
      */
     private void stopGameCountdown(CTFGame game) {
         game.setState(GameState.WAITING);
+        game.getClock().stop(System.nanoTime());
+        plugin.getChunkPreloadManager().releaseArena(game.getArena());
         plugin.getMessageManager().updateLobbyBossBar(game);
 
         // Update lobby items for all players
@@ -319,23 +301,21 @@ public class GameManager {
      */
     private void startGame(CTFGame game) {
         game.setState(GameState.PLAYING);
+        plugin.getListenerGateManager().updateRegistrations();
         int gameDuration = plugin.getConfigManager().getGameplaySetting("game-duration-minutes", 10) * 60;
-        game.setTimeLeft(gameDuration);
+        game.startClock(gameDuration);
 
         // **ENHANCED FEATURE: Start block tracking**
         plugin.getBlockTrackingManager().startTrackingForGame(game);
 
-        // Teleport players to team spawns and give loadouts
+        // Teleport players to team spawns over several ticks, loadouts are given on arrival
         for (CTFPlayer ctfPlayer : game.getPlayers()) {
             Player player = ctfPlayer.getPlayer();
             if (player != null && ctfPlayer.getTeam() != null) {
-                teleportToTeamSpawn(player, ctfPlayer);
-                applyBasicLoadoutToPlayer(player);
-                applyTeamColoredArmor(player, ctfPlayer.getTeam());
-                applySpawnProtection(player);
+                // Update lobby items to playing state before the loadout is applied
+                plugin.getLobbyManager().giveLobbyItems(player);
 
-                // Update lobby items to playing state
-                plugin.getLobbyManager().updatePlayerState(player);
+                deployToTeamSpawn(player, ctfPlayer, true);
             }
         }
 
@@ -349,50 +329,9 @@ public class GameManager {
         Map<String, String> placeholders = new HashMap<>();
         game.broadcastMessage("game-started", placeholders);
 
-        // Start game timer
-        startGameTimer(game);
-
         plugin.getLogger().info("Started game in arena: " + game.getArena().getName());
     }
 
-    /**
-     * Start game timer
-     */
-    private void startGameTimer(CTFGame game) {
-        BukkitTask timerTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (game.getState() != GameState.PLAYING) {
-                    cancel();
-                    return;
-                }
-
-                int timeLeft = game.getTimeLeft();
-
-                if (timeLeft <= 0) {
-                    // Time up, determine winner
-                    Arena.TeamColor winner = determineWinner(game);
-                    endGame(game, winner);
-                    cancel();
-                    return;
-                }
-
-                // Update boss bar
-                plugin.getMessageManager().updateGameTimeBossBar(game);
-
-                // Check for kill limit winner
-                Arena.TeamColor killWinner = game.getTeamWithKillLimit();
-                if (killWinner != null) {
-                    endGame(game, killWinner);
-                    cancel();
-                    return;
-                }
-
-                game.setTimeLeft(timeLeft - 1);
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
-    }
-
     /**
      * Determine winner at end of game
      */
@@ -421,84 +360,113 @@ public class GameManager {
     /**
      * Teleport player to team spawn
      */
-    public void teleportToTeamSpawn(Player player, CTFPlayer ctfPlayer) {
+    public CompletableFuture<Boolean> teleportToTeamSpawn(Player player, CTFPlayer ctfPlayer) {
+        return teleportToTeamSpawn(player, ctfPlayer, false);
+    }
+
+    /**
+     * Teleport player to team spawn, optionally through the staggered bulk queue
+     */
+    private CompletableFuture<Boolean> teleportToTeamSpawn(Player player, CTFPlayer ctfPlayer, boolean staggered) {
         Arena.TeamColor team = ctfPlayer.getTeam();
-        if (team == null) return;
+        if (team == null) return CompletableFuture.completedFuture(false);
 
         CTFGame game = ctfPlayer.getGame();
-        if (game == null) return;
-
-        Arena arena = game.getArena();
-        Arena.Team teamData = arena.getTeam(team);
+        if (game == null) return CompletableFuture.completedFuture(false);
 
         // Find best spawn point
-        Location[] spawnPoints = teamData.getSpawnPoints();
-        List<Location> availableSpawns = new ArrayList<>();
-
-        for (Location spawn : spawnPoints) {
-            if (spawn != null) {
-                availableSpawns.add(spawn);
-            }
+        Location spawnPoint = findBestSpawnPoint(game, team, player.getUniqueId());
+        if (spawnPoint == null) {
+            return CompletableFuture.completedFuture(false);
         }
 
-        if (!availableSpawns.isEmpty()) {
-            Random random = new Random();
-            Location spawnPoint = availableSpawns.get(random.nextInt(availableSpawns.size()));
-            player.teleport(spawnPoint);
-        }
+        return staggered
+                ? plugin.getTeleportManager().queueTeleport(player, spawnPoint)
+                : plugin.getTeleportManager().teleport(player, spawnPoint);
     }
 
     /**
-     * Apply basic loadout to player
+     * Pick the safest spawn point for a team using the game's cached player positions
+     * Nearby enemies and flag carriers weigh against a spawn, as do teammates standing on it
      */
-    public void applyBasicLoadoutToPlayer(Player player) {
-        player.getInventory().clear();
-        player.setHealth(20.0);
-        player.setFoodLevel(20);
-        player.setFireTicks(0);
+    public Location findBestSpawnPoint(CTFGame game, Arena.TeamColor team, UUID respawningPlayer) {
+        Arena.Team teamData = game.getArena().getTeam(team);
+        if (teamData == null) {
+            return null;
+        }
 
-        // Basic loadout
-        player.getInventory().setItem(0, new ItemStack(Material.IRON_SWORD));
-        player.getInventory().setItem(1, new ItemStack(Material.BOW));
-        player.getInventory().setItem(2, new ItemStack(Material.GOLDEN_APPLE, 3));
-        player.getInventory().setItem(9, new ItemStack(Material.ARROW, 64));
+        GamePositionCache positions = game.getPositionCache();
+        double enemyRadius = plugin.getConfigManager().getGameplaySetting("spawn-selection-enemy-radius", 16);
+        double enemyRadiusSquared = enemyRadius * enemyRadius;
+        double occupiedRadiusSquared = 3.0 * 3.0;
 
-        // Building materials
-        player.getInventory().setItem(3, new ItemStack(Material.COBBLESTONE, 64));
-        player.getInventory().setItem(4, new ItemStack(Material.OAK_PLANKS, 32));
-    }
+        Location bestSpawn = null;
+        int bestPenalty = Integer.MAX_VALUE;
+        int ties = 0;
 
-    /**
-     * Apply team colored armor
-     */
-    public void applyTeamColoredArmor(Player player, Arena.TeamColor teamColor) {
-        org.bukkit.Color armorColor = teamColor == Arena.TeamColor.RED ?
-                org.bukkit.Color.RED : org.bukkit.Color.BLUE;
-
-        ItemStack helmet = new ItemStack(Material.LEATHER_HELMET);
-        ItemStack chestplate = new ItemStack(Material.LEATHER_CHESTPLATE);
-        ItemStack leggings = new ItemStack(Material.LEATHER_LEGGINGS);
-        ItemStack boots = new ItemStack(Material.LEATHER_BOOTS);
-
-        dyeLeatherArmor(helmet, armorColor);
-        dyeLeatherArmor(chestplate, armorColor);
-        dyeLeatherArmor(leggings, armorColor);
-        dyeLeatherArmor(boots, armorColor);
-
-        player.getInventory().setHelmet(helmet);
-        player.getInventory().setChestplate(chestplate);
-        player.getInventory().setLeggings(leggings);
-        player.getInventory().setBoots(boots);
+        for (Location spawn : teamData.getSpawnPoints()) {
+            if (spawn == null) {
+                continue;
+            }
+
+            int penalty = 0;
+            if (spawn.getWorld() != null && spawn.getWorld().equals(positions.getWorld())) {
+                for (int i = 0; i < positions.size(); i++) {
+                    if (positions.getPlayerId(i).equals(respawningPlayer)) {
+                        continue;
+                    }
+
+                    double distanceSquared = positions.distanceSquared(i, spawn);
+                    boolean enemy = positions.getTeam(i) != team;
+
+                    if (enemy && distanceSquared <= enemyRadiusSquared) {
+                        penalty += positions.isFlagCarrier(i) ? 5 : 3;
+                    } else if (distanceSquared <= occupiedRadiusSquared) {
+                        penalty += positions.isFlagCarrier(i) ? 2 : 1;
+                    }
+                }
+            }
+
+            // Break ties uniformly at random without building a candidate list
+            if (penalty < bestPenalty) {
+                bestPenalty = penalty;
+                bestSpawn = spawn;
+                ties = 1;
+            } else if (penalty == bestPenalty && random.nextInt(++ties) == 0) {
+                bestSpawn = spawn;
+            }
+        }
+
+        return bestSpawn;
     }
 
     /**
-     * Dye leather armor
+     * Teleport player to a team spawn and equip them once the teleport has completed
+     * A failed teleport leaves the player as they are, without loadout or spawn protection
      */
-    private void dyeLeatherArmor(ItemStack armor, org.bukkit.Color color) {
-        if (armor.getItemMeta() instanceof org.bukkit.inventory.meta.LeatherArmorMeta meta) {
-            meta.setColor(color);
-            armor.setItemMeta(meta);
-        }
+    public CompletableFuture<Boolean> deployToTeamSpawn(Player player, CTFPlayer ctfPlayer, boolean staggered) {
+        return teleportToTeamSpawn(player, ctfPlayer, staggered).thenApply(success -> {
+            if (!success) {
+                plugin.getLogger().warning("Failed to teleport " + player.getName() + " to their team spawn");
+                return false;
+            }
+
+            CTFGame game = ctfPlayer.getGame();
+            if (!player.isOnline() || game == null || game.getState() != GameState.PLAYING) {
+                return false;
+            }
+
+            if (player.getGameMode() != GameMode.SURVIVAL) {
+                player.setGameMode(GameMode.SURVIVAL);
+            }
+
+            plugin.getKitManager().applyLoadout(player, ctfPlayer);
+            if (ctfPlayer.getTeam() != null) {
+                applyTeamKillEnhancements(player, game, ctfPlayer.getTeam());
+            }
+            applySpawnProtection(player, ctfPlayer);
+            return true;
+        });
     }
 
     /**
@@ -525,14 +493,14 @@ public class GameManager {
     /**
      * **ENHANCED FEATURE: Apply spawn protection with immediate removal on attack**
      */
-    public void applySpawnProtection(Player player) {
+    public void applySpawnProtection(Player player, CTFPlayer ctfPlayer) {
         int protectionTime = plugin.getConfigManager().getGameplaySetting("spawn-protection-seconds", 5);
         long protectionEnd = System.currentTimeMillis() + (protectionTime * 1000L);
 
-        spawnProtection.put(player.getUniqueId(), protectionEnd);
+        ctfPlayer.getSession().setSpawnProtectionEnd(protectionEnd);
 
         // Show spawn protection boss bar
-        plugin.getMessageManager().showSpawnProtectionBossBar(player);
+        plugin.getMessageManager().showSpawnProtectionBossBar(player, ctfPlayer.getSession());
 
         // Apply visual effects
         player.addPotionEffect(new PotionEffect(PotionEffectType.RESISTANCE, protectionTime * 20, 255, false, false));
@@ -543,13 +511,16 @@ public class GameManager {
     /**
      * **ENHANCED FEATURE: Remove spawn protection immediately (called when player attacks)**
      */
-    public void removeSpawnProtection(Player player) {
-        if (spawnProtection.remove(player.getUniqueId()) != null) {
+    public void removeSpawnProtection(Player player, CTFPlayer ctfPlayer) {
+        PlayerSession session = ctfPlayer.getSession();
+        if (session.isSpawnProtected()) {
+            session.setSpawnProtectionEnd(0);
+
             // Remove visual effects
             player.removePotionEffect(PotionEffectType.RESISTANCE);
 
             // Remove boss bar
-            plugin.getMessageManager().removeSpawnProtectionBossBar(player);
+            plugin.getMessageManager().removeSpawnProtectionBossBar(session);
 
             plugin.getLogger().info("Removed spawn protection from " + player.getName());
         }
@@ -558,15 +529,15 @@ public class GameManager {
     /**
      * Check if player has spawn protection
      */
-    public boolean hasSpawnProtection(Player player) {
-        Long protectionEnd = spawnProtection.get(player.getUniqueId());
-        if (protectionEnd == null) {
+    public boolean hasSpawnProtection(Player player, CTFPlayer ctfPlayer) {
+        PlayerSession session = ctfPlayer.getSession();
+        if (!session.isSpawnProtected()) {
             return false;
         }
 
-        if (System.currentTimeMillis() >= protectionEnd) {
+        if (System.currentTimeMillis() >= session.getSpawnProtectionEnd()) {
             // Protection expired, remove it
-            removeSpawnProtection(player);
+            removeSpawnProtection(player, ctfPlayer);
             return false;
         }
 
@@ -575,34 +546,53 @@ public class GameManager {
 
     /**
      * Handle player death
+     * Returns the player credited with the kill, which may differ from the given killer
      */
-    public void handlePlayerDeath(Player player, Player killer) {
+    public Player handlePlayerDeath(Player player, Player killer) {
         CTFPlayer ctfPlayer = players.get(player.getUniqueId());
         if (ctfPlayer == null || !ctfPlayer.isInGame()) {
-            return;
+            return killer;
         }
 
         CTFGame game = ctfPlayer.getGame();
         if (game == null || game.getState() != GameState.PLAYING) {
-            return;
+            return killer;
         }
 
         // Handle death statistics
         ctfPlayer.addDeath();
 
+        CombatLedger ledger = game.getCombatLedger();
+        int tick = Bukkit.getCurrentTick();
+
+        // Credit indirect deaths, such as falls after being hit, to the last recent attacker
+        if (killer == null) {
+            UUID lastAttacker = ledger.getLastAttacker(player.getUniqueId(), tick);
+            killer = lastAttacker != null ? Bukkit.getPlayer(lastAttacker) : player.getKiller();
+        }
+        CTFPlayer killerCtfPlayer = killer != null ? players.get(killer.getUniqueId()) : null;
+        if (killer == null || killer.equals(player) || killerCtfPlayer == null || killerCtfPlayer.getGame() != game) {
+            killer = null;
+            killerCtfPlayer = null;
+        }
+
+        List<UUID> assisting = ledger.recordDeath(player.getUniqueId(), killer != null ? killer.getUniqueId() : null, tick);
+
         // Handle killer statistics
-        if (killer != null && !killer.equals(player)) {
-            CTFPlayer killerCtfPlayer = players.get(killer.getUniqueId());
-            if (killerCtfPlayer != null && killerCtfPlayer.isInGame()) {
-                killerCtfPlayer.addKill();
-                game.addTeamKill(killerCtfPlayer.getTeam());
+        if (killerCtfPlayer != null) {
+            killerCtfPlayer.addKill();
+            game.addTeamKill(killerCtfPlayer.getTeam());
+            game.announceKillStreak(killerCtfPlayer, ledger.getStreak(ledger.slotOf(killer.getUniqueId())));
 
-                // Update kill streak
-                int streak = killStreaks.getOrDefault(killer.getUniqueId(), 0) + 1;
-                killStreaks.put(killer.getUniqueId(), streak);
+            // Apply team enhancements
+            applyTeamKillEnhancements(killer, game, killerCtfPlayer.getTeam());
+        }
 
-                // Apply team enhancements
-                applyTeamKillEnhancements(killer, game, killerCtfPlayer.getTeam());
+        // Handle assist statistics
+        for (UUID assistId : assisting) {
+            CTFPlayer assistCtfPlayer = players.get(assistId);
+            if (assistCtfPlayer != null && assistCtfPlayer.getGame() == game) {
+                assistCtfPlayer.addAssist();
             }
         }
 
@@ -613,6 +603,33 @@ public class GameManager {
 
         // Start respawn countdown
         startRespawnCountdown(player, ctfPlayer);
+        return killer;
+    }
+
+    /**
+     * Handle lethal damage without the vanilla death screen and respawn packets
+     * The player spectates where they fell and is teleported once, straight to a team spawn
+     */
+    public void handleFakeDeath(Player player, Player killer) {
+        player.setHealth(20.0);
+        player.setFireTicks(0);
+        player.setFallDistance(0);
+        player.setArrowsInBody(0);
+
+        playDeathSounds(player, handlePlayerDeath(player, killer));
+    }
+
+    /**
+     * Play the death sound for the victim and the kill sound for the killer
+     */
+    public void playDeathSounds(Player player, Player killer) {
+        player.playSound(player.getLocation(),
+                plugin.getConfigManager().getSound("player_death"), 1.0f, 1.0f);
+
+        if (killer != null && !killer.equals(player)) {
+            killer.playSound(killer.getLocation(),
+                    plugin.getConfigManager().getSound("kill_player"), 1.0f, 1.0f);
+        }
     }
 
     /**
@@ -622,18 +639,15 @@ public class GameManager {
         int respawnDelay = plugin.getConfigManager().getGameplaySetting("respawn-delay-seconds", 3);
 
         player.setGameMode(GameMode.SPECTATOR);
-
-        CTFGame game = ctfPlayer.getGame();
-        if (game != null && game.getArena().getLobbySpawn() != null) {
-            Location spectatorPoint = game.getArena().getLobbySpawn().clone();
-            spectatorPoint.add(0, 10, 0);
-            player.teleport(spectatorPoint);
-        }
-
         player.getInventory().clear();
         player.getActivePotionEffects().forEach(effect ->
                 player.removePotionEffect(effect.getType()));
 
+        if (respawnDelay <= 0) {
+            respawnAtTeamSpawn(player, ctfPlayer);
+            return;
+        }
+
         BukkitTask respawnTask = new BukkitRunnable() {
             int timeLeft = respawnDelay;
 
@@ -641,22 +655,14 @@ public class GameManager {
             public void run() {
                 if (!player.isOnline() || !ctfPlayer.isInGame()) {
                     cancel();
-                    respawnTasks.remove(player.getUniqueId());
+                    ctfPlayer.getSession().setRespawnTask(null);
                     return;
                 }
 
                 if (timeLeft <= 0) {
-                    player.setGameMode(GameMode.SURVIVAL);
-                    teleportToTeamSpawn(player, ctfPlayer);
-                    applyBasicLoadoutToPlayer(player);
-                    if (ctfPlayer.getTeam() != null) {
-                        applyTeamColoredArmor(player, ctfPlayer.getTeam());
-                        applyTeamKillEnhancements(player, game, ctfPlayer.getTeam());
-                    }
-                    applySpawnProtection(player);
-                    ctfPlayer.respawn();
-                    respawnTasks.remove(player.getUniqueId());
+                    ctfPlayer.getSession().setRespawnTask(null);
                     cancel();
+                    respawnAtTeamSpawn(player, ctfPlayer);
                     return;
                 }
 
@@ -668,7 +674,18 @@ public class GameManager {
             }
         }.runTaskTimer(plugin, 0L, 20L);
 
-        respawnTasks.put(player.getUniqueId(), respawnTask);
+        ctfPlayer.getSession().setRespawnTask(respawnTask);
+    }
+
+    /**
+     * Teleport a dead player to a team spawn, kit, effects and protection are applied in the same tick
+     */
+    private void respawnAtTeamSpawn(Player player, CTFPlayer ctfPlayer) {
+        deployToTeamSpawn(player, ctfPlayer, false).thenAccept(deployed -> {
+            if (player.isOnline() && ctfPlayer.isInGame()) {
+                ctfPlayer.respawn();
+            }
+        });
     }
 
     /**
@@ -707,6 +724,8 @@ public class GameManager {
      */
     public void endGame(CTFGame game, Arena.TeamColor winner) {
         game.setState(GameState.ENDING);
+        game.getClock().stop(System.nanoTime());
+        plugin.getListenerGateManager().updateRegistrations();
 
         // **ENHANCED FEATURE: Stop block tracking and restore arena**
         plugin.getBlockTrackingManager().stopTrackingAndRestore(game);
@@ -787,7 +806,25 @@ public class GameManager {
         message = plugin.getMessageManager().processMessage("&6&l                        MATCH RESULTS");
         player.sendMessage(message);
 
-        // Continue with enhanced formatting...
+        // Combat summary from the game's ledger
+        CombatLedger ledger = game.getCombatLedger();
+        int topKiller = ledger.getTopKillerSlot();
+        if (topKiller >= 0) {
+            String topKillerName = Bukkit.getOfflinePlayer(ledger.getPlayerId(topKiller)).getName();
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("player", topKillerName != null ? topKillerName : "Unknown");
+            placeholders.put("kills", String.valueOf(ledger.getKills(topKiller)));
+            player.sendMessage(plugin.getConfigManager().getMessage("game-stats-best-killer", placeholders));
+        }
+
+        int slot = ledger.slotOf(player.getUniqueId());
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("kills", String.valueOf(ledger.getKills(slot)));
+        placeholders.put("assists", String.valueOf(ledger.getAssists(slot)));
+        placeholders.put("deaths", String.valueOf(ledger.getDeaths(slot)));
+        placeholders.put("best_streak", String.valueOf(ledger.getBestStreak(slot)));
+        placeholders.put("damage", String.format("%.0f", ledger.getDamageDealt(slot)));
+        player.sendMessage(plugin.getConfigManager().getMessage("game-stats-your-combat", placeholders));
     }
 
     /**
@@ -826,10 +863,12 @@ public class GameManager {
                 Player player = ctfPlayer.getPlayer();
                 if (player != null && player.isOnline()) {
                     removePlayerFromGame(player);
-                    plugin.getServerLobbyManager().teleportToServerLobby(player);
+                    plugin.getServerLobbyManager().teleportToServerLobby(player, true);
                 }
             }
             activeGames.remove(game.getArena());
+            plugin.getChunkPreloadManager().releaseArena(game.getArena());
+            plugin.getMessageManager().removeGameBossBar(game);
         }, autoLeaveDelay * 20L);
     }
 
@@ -848,6 +887,12 @@ public class GameManager {
     public void handlePlayerReconnection(Player player) {
         UUID playerId = player.getUniqueId();
 
+        // Point any tracked CTF player at the new Player instance
+        CTFPlayer trackedPlayer = players.get(playerId);
+        if (trackedPlayer != null) {
+            trackedPlayer.attachPlayer(player);
+        }
+
         // Check if player was in a game before disconnecting
         PlayerReconnectionData reconData = reconnectionData.get(playerId);
 
@@ -880,13 +925,7 @@ public class GameManager {
 
             if (game.getState() == GameState.PLAYING) {
                 // Restore player to active game
-                teleportToTeamSpawn(player, ctfPlayer);
-                applyBasicLoadoutToPlayer(player);
-                if (ctfPlayer.getTeam() != null) {
-                    applyTeamColoredArmor(player, ctfPlayer.getTeam());
-                    applyTeamKillEnhancements(player, game, ctfPlayer.getTeam());
-                }
-                applySpawnProtection(player);
+                deployToTeamSpawn(player, ctfPlayer, false);
 
                 // Update lobby items
                 plugin.getLobbyManager().onPlayerReconnect(player);
@@ -894,7 +933,7 @@ public class GameManager {
             } else {
                 // Player reconnected to lobby
                 if (game.getArena().getLobbySpawn() != null) {
-                    player.teleport(game.getArena().getLobbySpawn());
+                    plugin.getTeleportManager().teleport(player, game.getArena().getLobbySpawn());
                 }
 
                 // Update lobby items
@@ -903,6 +942,7 @@ public class GameManager {
 
             // Update UI elements
             plugin.getScoreboardManager().updatePlayerScoreboard(player);
+            plugin.getMessageManager().showGameBossBar(game, player);
             plugin.getMessageManager().updateGameTimeBossBar(game);
 
         } else {
@@ -925,6 +965,7 @@ public class GameManager {
         // Add back to game
         game.addPlayer(ctfPlayer);
         players.put(player.getUniqueId(), ctfPlayer);
+        plugin.getPlaceholderCacheManager().invalidate(player.getUniqueId());
 
         // Show reconnection message
         Map<String, String> placeholders = new HashMap<>();
@@ -935,21 +976,18 @@ public class GameManager {
         // Restore based on game state
         if (game.getState() == GameState.PLAYING) {
             // Restore to active game
-            teleportToTeamSpawn(player, ctfPlayer);
-            applyBasicLoadoutToPlayer(player);
-            applyTeamColoredArmor(player, ctfPlayer.getTeam());
-            applyTeamKillEnhancements(player, game, ctfPlayer.getTeam());
-            applySpawnProtection(player);
+            deployToTeamSpawn(player, ctfPlayer, false);
         } else {
             // Restore to lobby
             if (game.getArena().getLobbySpawn() != null) {
-                player.teleport(game.getArena().getLobbySpawn());
+                plugin.getTeleportManager().teleport(player, game.getArena().getLobbySpawn());
             }
         }
 
         // Update UI
         plugin.getLobbyManager().onPlayerReconnect(player);
         plugin.getScoreboardManager().updatePlayerScoreboard(player);
+        plugin.getMessageManager().showGameBossBar(game, player);
         plugin.getMessageManager().updateGameTimeBossBar(game);
 
         // Clear reconnection data
@@ -974,6 +1012,12 @@ public class GameManager {
             );
             reconnectionData.put(player.getUniqueId(), reconData);
 
+            // Tasks and boss bars hold the Player instance, a reconnect starts a new CTFPlayer
+            ctfPlayer.getSession().close();
+
+            // The boss bar holds the Player instance, so it is shown again on reconnect
+            plugin.getMessageManager().clearBossBar(player);
+
             if (ctfPlayer.hasFlag()) {
                 CTFFlag flag = ctfPlayer.getCarryingFlag();
                 flag.returnToBase();
@@ -989,6 +1033,120 @@ public class GameManager {
         }
     }
 
+    /**
+     * Refresh the position snapshot of every running game once per tick
+     */
+    private void startPositionCacheTask() {
+        plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
+            long start = System.nanoTime();
+            for (CTFGame game : activeGames.values()) {
+                if (game.getState() == GameState.PLAYING) {
+                    game.getPositionCache().refresh(game);
+                } else if (game.getPositionCache().size() > 0) {
+                    game.getPositionCache().clear();
+                }
+            }
+            positionCacheTimer.record(start);
+        }, 1L, 1L);
+    }
+
+    /**
+     * Check every game clock and flag return deadline once per tick
+     * Clocks count down against System.nanoTime deadlines, so a slow server shows fewer
+     * intermediate seconds instead of stretching the match
+     */
+    private void startGameClockTask() {
+        plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
+            long start = System.nanoTime();
+            try {
+                for (CTFGame game : activeGames.values()) {
+                    tickGameClock(game, start);
+                }
+            } finally {
+                gameClockTimer.record(start);
+            }
+        }, 1L, 1L);
+    }
+
+    private void tickGameClock(CTFGame game, long now) {
+        if (game.getState() == GameState.PLAYING) {
+            game.checkFlagReturns(now);
+        }
+
+        GameClock clock = game.getClock();
+        if (!clock.isRunning()) {
+            return;
+        }
+
+        // Act once per displayed second
+        int secondsLeft = clock.getSecondsLeft(now);
+        if (!clock.advanceSecond(secondsLeft)) {
+            return;
+        }
+
+        if (game.getState() == GameState.STARTING) {
+            tickCountdown(game, clock, secondsLeft);
+        } else if (game.getState() == GameState.PLAYING) {
+            tickGameTime(game, secondsLeft);
+        } else {
+            clock.stop(now);
+        }
+    }
+
+    /**
+     * Pre-game countdown second, the final seconds are held while arena chunks are still loading
+     */
+    private void tickCountdown(CTFGame game, GameClock clock, int secondsLeft) {
+        int countdownTime = plugin.getConfigManager().getGameplaySetting("pre-game-countdown-seconds", 20);
+        int maxExtension = plugin.getConfigManager().getMainConfig().getInt("gameplay.chunk-preload.max-countdown-extension-seconds", 10);
+        int extendedSeconds = clock.getDurationSeconds() - countdownTime;
+
+        if (secondsLeft <= 5 && extendedSeconds < maxExtension &&
+                !plugin.getChunkPreloadManager().isPreloaded(game.getArena())) {
+            if (extendedSeconds <= 0) {
+                game.broadcastMessage("countdown-preloading", new HashMap<>());
+            }
+            clock.extend(1);
+            plugin.getMessageManager().updateCountdownBossBar(game, secondsLeft);
+            return;
+        }
+
+        if (secondsLeft <= 0) {
+            startGame(game);
+            return;
+        }
+
+        // Update boss bar
+        plugin.getMessageManager().updateCountdownBossBar(game, secondsLeft);
+
+        // Send countdown messages
+        if (secondsLeft <= 5) {
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("time", String.valueOf(secondsLeft));
+            game.broadcastMessage("countdown-" + secondsLeft, placeholders);
+        }
+    }
+
+    /**
+     * Match second, ends the game on time up or when a team reaches the kill limit
+     */
+    private void tickGameTime(CTFGame game, int secondsLeft) {
+        if (secondsLeft <= 0) {
+            // Time up, determine winner
+            endGame(game, determineWinner(game));
+            return;
+        }
+
+        // Update boss bar
+        plugin.getMessageManager().updateGameTimeBossBar(game);
+
+        // Check for kill limit winner
+        Arena.TeamColor killWinner = game.getTeamWithKillLimit();
+        if (killWinner != null) {
+            endGame(game, killWinner);
+        }
+    }
+
     /**
      * Start cleanup task for old reconnection data
      */
@@ -1007,24 +1165,16 @@ public class GameManager {
      * **ENHANCED FEATURE: Comprehensive cleanup with emergency block restore**
      */
     public void cleanup() {
-        // Save all player data
+        // Save all player data and cancel their tasks
         for (CTFPlayer ctfPlayer : players.values()) {
             plugin.getPlayerDataManager().savePlayerData(ctfPlayer);
+            ctfPlayer.getSession().close();
         }
 
-        // Cancel all respawn tasks
-        for (BukkitTask task : respawnTasks.values()) {
-            task.cancel();
-        }
-        respawnTasks.clear();
-
         // **ENHANCED FEATURE: Emergency block tracking cleanup**
         plugin.getBlockTrackingManager().emergencyCleanup();
 
         // Clear all data
-        spawnProtection.clear();
-        killStreaks.clear();
-        teamKillCounts.clear();
         players.clear();
         activeGames.clear();
         reconnectionData.clear();
@@ -1036,6 +1186,13 @@ public class GameManager {
         return players.get(player.getUniqueId());
     }
 
+    /**
+     * Every tracked CTF player, including disconnected players awaiting reconnection
+     */
+    public Collection<CTFPlayer> getTrackedPlayers() {
+        return players.values();
+    }
+
     public CTFGame getGame(Arena arena) {
         return activeGames.get(arena);
     }
@@ -26,10 +26,12 @@ public class HologramLeaderboardManager {
     private final Map<String, HologramLeaderboard> leaderboards;
     private final Map<LeaderboardType, List<LeaderboardEntry>> cachedData;
     private BukkitTask updateTask;
+    private final PerformanceManager.Timer updateTimer;
     private boolean decentHologramsEnabled = false;
 
     public HologramLeaderboardManager(CTFCore plugin) {
         this.plugin = plugin;
+        this.updateTimer = plugin.getPerformanceManager().timer("task.leaderboard-update");
         this.leaderboards = new ConcurrentHashMap<>();
         this.cachedData = new ConcurrentHashMap<>();
         
@@ -271,7 +273,12 @@ public class HologramLeaderboardManager {
         updateTask = new BukkitRunnable() {
             @Override
             public void run() {
-                updateAllLeaderboards();
+                long start = System.nanoTime();
+                try {
+                    updateAllLeaderboards();
+                } finally {
+                    updateTimer.record(start);
+                }
             }
         }.runTaskTimerAsynchronously(plugin, 20L * 30L, 20L * 30L); // Update every 30 seconds
     }
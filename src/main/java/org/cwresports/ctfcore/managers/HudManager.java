@@ -0,0 +1,308 @@
+package org.cwresports.ctfcore.managers;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.cwresports.ctfcore.CTFCore;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Composes titles and action bars per player
+ * Everything requested during a tick is collected, the highest priority request of each kind wins,
+ * and it is sent at the end of the tick only if it differs from what the player is already seeing
+ * Titles that lose to a more important one are shown once it has faded instead of being dropped
+ */
+public class HudManager {
+
+    /**
+     * Importance of a HUD request, a lower priority title never replaces a higher one still on screen
+     */
+    public enum Priority {
+        LOW,     // Countdowns and progress that are repeated anyway
+        NORMAL,  // Regular feedback
+        HIGH     // Captures, flag events and level ups
+    }
+
+    // An unchanged action bar is only resent once it starts to fade
+    private static final int ACTION_BAR_REFRESH_TICKS = 40;
+
+    // Titles waiting per player, the least important is dropped beyond this
+    private static final int MAX_DEFERRED_TITLES = 3;
+
+    private final CTFCore plugin;
+    private final Map<UUID, HudState> states;
+    private final Set<UUID> dirty;
+    private final Set<UUID> deferred;
+    private final PerformanceManager.Timer flushTimer;
+    private final BukkitTask flushTask;
+
+    /**
+     * Pending requests and the last sent content of one player
+     */
+    private static class HudState {
+        private Title pendingTitle;
+        private Priority pendingTitlePriority;
+        private Component pendingActionBar;
+        private Priority pendingActionBarPriority;
+
+        private Title sentTitle;
+        private Priority sentTitlePriority;
+        private int sentTitleUntilTick;
+        private Component sentActionBar;
+        private int sentActionBarTick;
+
+        // Most important first, in request order within a priority
+        private final List<DeferredTitle> deferredTitles = new ArrayList<>(MAX_DEFERRED_TITLES);
+    }
+
+    /**
+     * A NORMAL or HIGH title that lost its tick to another title
+     */
+    private static class DeferredTitle {
+        private final Title title;
+        private final Priority priority;
+
+        private DeferredTitle(Title title, Priority priority) {
+            this.title = title;
+            this.priority = priority;
+        }
+    }
+
+    public HudManager(CTFCore plugin) {
+        this.plugin = plugin;
+        this.states = new HashMap<>();
+        this.dirty = new LinkedHashSet<>();
+        this.deferred = new LinkedHashSet<>();
+        this.flushTimer = plugin.getPerformanceManager().timer("task.hud-flush");
+
+        this.flushTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                if (dirty.isEmpty() && deferred.isEmpty()) {
+                    return;
+                }
+
+                long start = System.nanoTime();
+                try {
+                    flush();
+                } finally {
+                    flushTimer.record(start);
+                }
+            }
+        }.runTaskTimer(plugin, 1L, 1L);
+    }
+
+    /**
+     * Request a title for the player
+     */
+    public void showTitle(Player player, Title title, Priority priority) {
+        UUID playerId = player.getUniqueId();
+        HudState state = states.computeIfAbsent(playerId, uuid -> new HudState());
+        if (state.pendingTitle == null || priority.compareTo(state.pendingTitlePriority) >= 0) {
+            if (state.pendingTitle != null) {
+                deferTitle(playerId, state, state.pendingTitle, state.pendingTitlePriority);
+            }
+            state.pendingTitle = title;
+            state.pendingTitlePriority = priority;
+            dirty.add(playerId);
+        } else {
+            deferTitle(playerId, state, title, priority);
+        }
+    }
+
+    /**
+     * Request a title from legacy formatted strings with times in ticks
+     */
+    public void showTitle(Player player, String title, String subtitle, int fadeIn, int stay, int fadeOut, Priority priority) {
+        Title.Times times = Title.Times.times(ticks(fadeIn), ticks(stay), ticks(fadeOut));
+        showTitle(player, Title.title(MessageTemplate.LEGACY_SERIALIZER.deserialize(title),
+                MessageTemplate.LEGACY_SERIALIZER.deserialize(subtitle), times), priority);
+    }
+
+    /**
+     * Request an action bar message for the player
+     */
+    public void sendActionBar(Player player, Component message, Priority priority) {
+        HudState state = states.computeIfAbsent(player.getUniqueId(), uuid -> new HudState());
+        if (state.pendingActionBar == null || priority.compareTo(state.pendingActionBarPriority) >= 0) {
+            state.pendingActionBar = message;
+            state.pendingActionBarPriority = priority;
+            dirty.add(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Request an action bar message from a legacy formatted string
+     */
+    public void sendActionBar(Player player, String message, Priority priority) {
+        sendActionBar(player, MessageTemplate.LEGACY_SERIALIZER.deserialize(message), priority);
+    }
+
+    /**
+     * Send the winning request of every player touched this tick
+     */
+    private void flush() {
+        int currentTick = Bukkit.getCurrentTick();
+        promoteDeferredTitles(currentTick);
+
+        for (UUID playerId : dirty) {
+            HudState state = states.get(playerId);
+            Player player = Bukkit.getPlayer(playerId);
+            if (state == null || player == null || !player.isOnline()) {
+                states.remove(playerId);
+                continue;
+            }
+
+            if (state.pendingTitle != null) {
+                sendTitle(player, playerId, state, currentTick);
+                state.pendingTitle = null;
+                state.pendingTitlePriority = null;
+            }
+
+            if (state.pendingActionBar != null) {
+                boolean unchanged = state.pendingActionBar.equals(state.sentActionBar) &&
+                        currentTick - state.sentActionBarTick < ACTION_BAR_REFRESH_TICKS;
+                if (!unchanged) {
+                    player.sendActionBar(state.pendingActionBar);
+                    state.sentActionBar = state.pendingActionBar;
+                    state.sentActionBarTick = currentTick;
+                } else {
+                    plugin.getPerformanceManager().increment("hud.action-bar-skipped");
+                }
+                state.pendingActionBar = null;
+                state.pendingActionBarPriority = null;
+            }
+        }
+        dirty.clear();
+    }
+
+    private void sendTitle(Player player, UUID playerId, HudState state, int currentTick) {
+        Title title = state.pendingTitle;
+        boolean onScreen = state.sentTitle != null && currentTick < state.sentTitleUntilTick;
+
+        // Skip titles identical to the one showing
+        if (onScreen && sameContent(title, state.sentTitle)) {
+            plugin.getPerformanceManager().increment("hud.title-skipped");
+            return;
+        }
+
+        // Lower priority titles would cover a more important one, they wait for it to fade
+        if (onScreen && state.pendingTitlePriority.compareTo(state.sentTitlePriority) < 0) {
+            deferTitle(playerId, state, title, state.pendingTitlePriority);
+            return;
+        }
+
+        player.showTitle(title);
+        state.sentTitle = title;
+        state.sentTitlePriority = state.pendingTitlePriority;
+        state.sentTitleUntilTick = currentTick + visibleTicks(title);
+    }
+
+    /**
+     * Keep a title that lost to another one, LOW titles are repeated anyway and are dropped
+     */
+    private void deferTitle(UUID playerId, HudState state, Title title, Priority priority) {
+        if (priority == Priority.LOW) {
+            plugin.getPerformanceManager().increment("hud.title-skipped");
+            return;
+        }
+
+        List<DeferredTitle> queue = state.deferredTitles;
+        for (DeferredTitle waiting : queue) {
+            if (sameContent(waiting.title, title)) {
+                return;
+            }
+        }
+
+        int index = 0;
+        while (index < queue.size() && queue.get(index).priority.compareTo(priority) >= 0) {
+            index++;
+        }
+        queue.add(index, new DeferredTitle(title, priority));
+        if (queue.size() > MAX_DEFERRED_TITLES) {
+            queue.remove(queue.size() - 1);
+            plugin.getPerformanceManager().increment("hud.title-skipped");
+        }
+
+        deferred.add(playerId);
+        plugin.getPerformanceManager().increment("hud.title-deferred");
+    }
+
+    /**
+     * Move the next waiting title of each player into the pending slot once nothing more important is showing
+     */
+    private void promoteDeferredTitles(int currentTick) {
+        Iterator<UUID> iterator = deferred.iterator();
+        while (iterator.hasNext()) {
+            UUID playerId = iterator.next();
+            HudState state = states.get(playerId);
+            if (state == null || state.deferredTitles.isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+
+            DeferredTitle next = state.deferredTitles.get(0);
+            boolean onScreen = state.sentTitle != null && currentTick < state.sentTitleUntilTick;
+            if ((onScreen && next.priority.compareTo(state.sentTitlePriority) <= 0) ||
+                    (state.pendingTitle != null && state.pendingTitlePriority.compareTo(next.priority) > 0)) {
+                continue;
+            }
+
+            // A newer request of the same or lower priority waits behind the older deferred title
+            state.deferredTitles.remove(0);
+            if (state.pendingTitle != null) {
+                deferTitle(playerId, state, state.pendingTitle, state.pendingTitlePriority);
+            }
+            state.pendingTitle = next.title;
+            state.pendingTitlePriority = next.priority;
+            dirty.add(playerId);
+
+            if (state.deferredTitles.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean sameContent(Title a, Title b) {
+        return a.title().equals(b.title()) && a.subtitle().equals(b.subtitle());
+    }
+
+    /**
+     * Ticks a title stays readable, fade in plus stay
+     */
+    private int visibleTicks(Title title) {
+        Title.Times times = title.times();
+        if (times == null) {
+            return 70;
+        }
+        return (int) ((times.fadeIn().toMillis() + times.stay().toMillis()) / 50);
+    }
+
+    private static Duration ticks(int ticks) {
+        return Duration.ofMillis(ticks * 50L);
+    }
+
+    /**
+     * Forget the HUD state of a player who left
+     */
+    public void removePlayer(Player player) {
+        states.remove(player.getUniqueId());
+        dirty.remove(player.getUniqueId());
+        deferred.remove(player.getUniqueId());
+    }
+
+    /**
+     * Shutdown HUD manager
+     */
+    public void shutdown() {
+        flushTask.cancel();
+        states.clear();
+        dirty.clear();
+        deferred.clear();
+    }
+}
@@ -0,0 +1,310 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.LeatherArmorMeta;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.models.Arena;
+import org.cwresports.ctfcore.models.CTFPlayer;
+
+import java.util.*;
+
+/**
+ * Registry of kits from kits.yml, built into per-team inventory contents once per config load
+ * Applying a kit is a single setContents call, the server copies the stacks so templates are never modified
+ */
+public class KitManager {
+
+    // Player inventory layout: storage 0-35, boots, leggings, chestplate, helmet, offhand
+    private static final int CONTENTS_SIZE = 41;
+    private static final int BOOTS_SLOT = 36;
+    private static final int LEGGINGS_SLOT = 37;
+    private static final int CHESTPLATE_SLOT = 38;
+    private static final int HELMET_SLOT = 39;
+    private static final int OFFHAND_SLOT = 40;
+
+    private static final String DEFAULT_KIT = "default";
+
+    private final CTFCore plugin;
+
+    // Replaced as a whole on reload so readers never see a half built registry
+    private volatile KitRegistry registry;
+
+    /**
+     * Kits, level kits and arena kits of one config load
+     */
+    private static class KitRegistry {
+        private final Map<String, Kit> kits;
+        private final NavigableMap<Integer, String> levelKits;
+        private final Map<String, String> arenaKits;
+
+        KitRegistry(Map<String, Kit> kits, NavigableMap<Integer, String> levelKits, Map<String, String> arenaKits) {
+            this.kits = kits;
+            this.levelKits = levelKits;
+            this.arenaKits = arenaKits;
+        }
+    }
+
+    /**
+     * Prebuilt contents of one kit, with a dyed variant per team
+     */
+    private static class Kit {
+        private final ItemStack[] neutral;
+        private final Map<Arena.TeamColor, ItemStack[]> teams;
+
+        Kit(ItemStack[] neutral, Map<Arena.TeamColor, ItemStack[]> teams) {
+            this.neutral = neutral;
+            this.teams = teams;
+        }
+
+        ItemStack[] getContents(Arena.TeamColor team) {
+            ItemStack[] contents = team != null ? teams.get(team) : null;
+            return contents != null ? contents : neutral;
+        }
+    }
+
+    public KitManager(CTFCore plugin) {
+        this.plugin = plugin;
+        loadKits();
+    }
+
+    /**
+     * Build every kit from kits.yml
+     */
+    public void loadKits() {
+        FileConfiguration config = plugin.getConfigManager().getConfig("kits.yml");
+        Map<String, Kit> kits = new HashMap<>();
+        NavigableMap<Integer, String> levelKits = new TreeMap<>();
+        Map<String, String> arenaKits = new HashMap<>();
+
+        ConfigurationSection kitsSection = config != null ? config.getConfigurationSection("kits") : null;
+        if (kitsSection != null) {
+            for (String kitName : kitsSection.getKeys(false)) {
+                ConfigurationSection kitSection = kitsSection.getConfigurationSection(kitName);
+                if (kitSection != null) {
+                    kits.put(kitName.toLowerCase(), buildKit(kitName, kitSection));
+                }
+            }
+        }
+
+        if (!kits.containsKey(DEFAULT_KIT)) {
+            plugin.getLogger().warning("No default kit found in kits.yml, using the built-in loadout");
+            kits.put(DEFAULT_KIT, buildBuiltInKit());
+        }
+
+        ConfigurationSection levelSection = config != null ? config.getConfigurationSection("level-kits") : null;
+        if (levelSection != null) {
+            for (String level : levelSection.getKeys(false)) {
+                String kitName = levelSection.getString(level, "").toLowerCase();
+                try {
+                    if (kits.containsKey(kitName)) {
+                        levelKits.put(Integer.parseInt(level), kitName);
+                    } else {
+                        plugin.getLogger().warning("Unknown kit '" + kitName + "' for level " + level + " in kits.yml");
+                    }
+                } catch (NumberFormatException e) {
+                    plugin.getLogger().warning("Invalid level '" + level + "' in kits.yml");
+                }
+            }
+        }
+
+        ConfigurationSection arenaSection = config != null ? config.getConfigurationSection("arena-kits") : null;
+        if (arenaSection != null) {
+            for (String arenaName : arenaSection.getKeys(false)) {
+                String kitName = arenaSection.getString(arenaName, "").toLowerCase();
+                if (kits.containsKey(kitName)) {
+                    arenaKits.put(arenaName.toLowerCase(), kitName);
+                } else {
+                    plugin.getLogger().warning("Unknown kit '" + kitName + "' for arena " + arenaName + " in kits.yml");
+                }
+            }
+        }
+
+        registry = new KitRegistry(kits, levelKits, arenaKits);
+        plugin.getLogger().info("Loaded " + kits.size() + " kits");
+    }
+
+    private Kit buildKit(String kitName, ConfigurationSection section) {
+        ItemStack[] contents = new ItemStack[CONTENTS_SIZE];
+
+        ConfigurationSection items = section.getConfigurationSection("items");
+        if (items != null) {
+            for (String slotKey : items.getKeys(false)) {
+                try {
+                    int slot = Integer.parseInt(slotKey);
+                    if (slot < 0 || slot >= BOOTS_SLOT) {
+                        plugin.getLogger().warning("Slot " + slot + " out of range in kit " + kitName);
+                        continue;
+                    }
+                    contents[slot] = parseItem(kitName, items, slotKey);
+                } catch (NumberFormatException e) {
+                    plugin.getLogger().warning("Invalid slot '" + slotKey + "' in kit " + kitName);
+                }
+            }
+        }
+
+        ConfigurationSection armor = section.getConfigurationSection("armor");
+        if (armor != null) {
+            contents[HELMET_SLOT] = parseItem(kitName, armor, "helmet");
+            contents[CHESTPLATE_SLOT] = parseItem(kitName, armor, "chestplate");
+            contents[LEGGINGS_SLOT] = parseItem(kitName, armor, "leggings");
+            contents[BOOTS_SLOT] = parseItem(kitName, armor, "boots");
+        }
+        contents[OFFHAND_SLOT] = parseItem(kitName, section, "offhand");
+
+        return buildTeamVariants(contents, section.getBoolean("dye-team-color", true));
+    }
+
+    /**
+     * The loadout used before kits were configurable
+     */
+    private Kit buildBuiltInKit() {
+        ItemStack[] contents = new ItemStack[CONTENTS_SIZE];
+        contents[0] = new ItemStack(Material.IRON_SWORD);
+        contents[1] = new ItemStack(Material.BOW);
+        contents[2] = new ItemStack(Material.GOLDEN_APPLE, 3);
+        contents[3] = new ItemStack(Material.COBBLESTONE, 64);
+        contents[4] = new ItemStack(Material.OAK_PLANKS, 32);
+        contents[9] = new ItemStack(Material.ARROW, 64);
+        contents[HELMET_SLOT] = new ItemStack(Material.LEATHER_HELMET);
+        contents[CHESTPLATE_SLOT] = new ItemStack(Material.LEATHER_CHESTPLATE);
+        contents[LEGGINGS_SLOT] = new ItemStack(Material.LEATHER_LEGGINGS);
+        contents[BOOTS_SLOT] = new ItemStack(Material.LEATHER_BOOTS);
+        return buildTeamVariants(contents, true);
+    }
+
+    private Kit buildTeamVariants(ItemStack[] contents, boolean dyeTeamColor) {
+        Map<Arena.TeamColor, ItemStack[]> teams = new EnumMap<>(Arena.TeamColor.class);
+        if (dyeTeamColor) {
+            for (Arena.TeamColor team : Arena.TeamColor.values()) {
+                teams.put(team, dyeLeatherItems(contents, team == Arena.TeamColor.RED ? Color.RED : Color.BLUE));
+            }
+        }
+        return new Kit(contents, teams);
+    }
+
+    /**
+     * Copy kit contents with every leather item dyed in the given color
+     */
+    private ItemStack[] dyeLeatherItems(ItemStack[] contents, Color color) {
+        ItemStack[] dyed = new ItemStack[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            ItemStack item = contents[i];
+            if (item != null && item.getItemMeta() instanceof LeatherArmorMeta meta) {
+                item = item.clone();
+                meta.setColor(color);
+                item.setItemMeta(meta);
+            }
+            dyed[i] = item;
+        }
+        return dyed;
+    }
+
+    /**
+     * Parse an item written as MATERIAL[:amount] or as a section with material, amount, name and enchantments
+     */
+    private ItemStack parseItem(String kitName, ConfigurationSection parent, String key) {
+        if (parent.isConfigurationSection(key)) {
+            ConfigurationSection section = parent.getConfigurationSection(key);
+            ItemStack item = createItem(kitName, section.getString("material"), section.getInt("amount", 1));
+            if (item == null) {
+                return null;
+            }
+
+            ItemMeta meta = item.getItemMeta();
+            if (meta != null) {
+                String name = section.getString("name");
+                if (name != null) {
+                    meta.setDisplayName(ColorTranslator.translate(name));
+                }
+                if (section.getBoolean("unbreakable", false)) {
+                    meta.setUnbreakable(true);
+                }
+                item.setItemMeta(meta);
+            }
+
+            ConfigurationSection enchantments = section.getConfigurationSection("enchantments");
+            if (enchantments != null) {
+                for (String enchantmentName : enchantments.getKeys(false)) {
+                    Enchantment enchantment = org.bukkit.Registry.ENCHANTMENT.get(NamespacedKey.minecraft(enchantmentName.toLowerCase()));
+                    if (enchantment == null) {
+                        plugin.getLogger().warning("Unknown enchantment '" + enchantmentName + "' in kit " + kitName);
+                        continue;
+                    }
+                    item.addUnsafeEnchantment(enchantment, enchantments.getInt(enchantmentName, 1));
+                }
+            }
+            return item;
+        }
+
+        String value = parent.getString(key);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        int separator = value.indexOf(':');
+        if (separator < 0) {
+            return createItem(kitName, value, 1);
+        }
+        try {
+            return createItem(kitName, value.substring(0, separator), Integer.parseInt(value.substring(separator + 1).trim()));
+        } catch (NumberFormatException e) {
+            plugin.getLogger().warning("Invalid amount in '" + value + "' in kit " + kitName);
+            return null;
+        }
+    }
+
+    private ItemStack createItem(String kitName, String materialName, int amount) {
+        Material material = materialName != null ? Material.matchMaterial(materialName.trim()) : null;
+        if (material == null || !material.isItem() || material.isAir()) {
+            plugin.getLogger().warning("Invalid material '" + materialName + "' in kit " + kitName);
+            return null;
+        }
+        return new ItemStack(material, Math.max(1, Math.min(amount, material.getMaxStackSize())));
+    }
+
+    /**
+     * Reset player vitals and equip the kit for their arena, level and team
+     */
+    public void applyLoadout(Player player, CTFPlayer ctfPlayer) {
+        player.setHealth(20.0);
+        player.setFoodLevel(20);
+        player.setFireTicks(0);
+
+        Kit kit = getKit(ctfPlayer);
+        player.getInventory().setContents(kit.getContents(ctfPlayer.getTeam()));
+    }
+
+    /**
+     * Arena kits take precedence over level kits, the default kit is used otherwise
+     */
+    private Kit getKit(CTFPlayer ctfPlayer) {
+        KitRegistry current = registry;
+        String kitName = null;
+
+        if (ctfPlayer.getGame() != null) {
+            kitName = current.arenaKits.get(ctfPlayer.getGame().getArena().getName().toLowerCase());
+        }
+        if (kitName == null) {
+            Map.Entry<Integer, String> levelKit = current.levelKits.floorEntry(ctfPlayer.getLevel());
+            kitName = levelKit != null ? levelKit.getValue() : DEFAULT_KIT;
+        }
+
+        Kit kit = current.kits.get(kitName);
+        return kit != null ? kit : current.kits.get(DEFAULT_KIT);
+    }
+
+    /**
+     * Get the names of all loaded kits
+     */
+    public Set<String> getKitNames() {
+        return Collections.unmodifiableSet(registry.kits.keySet());
+    }
+}
@@ -0,0 +1,81 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.models.CTFGame;
+import org.cwresports.ctfcore.models.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registers hot-path listeners only while at least one game is being played
+ * Movement fires for every player many times a second, so idle servers should not pay for the CTF handlers
+ */
+public class ListenerGateManager {
+
+    private final CTFCore plugin;
+    private final List<Listener> playingListeners;
+    private boolean registered;
+
+    public ListenerGateManager(CTFCore plugin) {
+        this.plugin = plugin;
+        this.playingListeners = new ArrayList<>();
+    }
+
+    /**
+     * Add a listener that is registered while any game is PLAYING
+     */
+    public void registerWhilePlaying(Listener listener) {
+        playingListeners.add(listener);
+        if (registered) {
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+        }
+    }
+
+    /**
+     * Register or unregister the gated listeners after a game changed state or ended
+     */
+    public void updateRegistrations() {
+        boolean playing = false;
+        for (CTFGame game : plugin.getGameManager().getActiveGames()) {
+            if (game.getState() == GameState.PLAYING) {
+                playing = true;
+                break;
+            }
+        }
+
+        if (playing && !registered) {
+            for (Listener listener : playingListeners) {
+                plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            }
+            registered = true;
+            plugin.getPerformanceManager().increment("listeners.registered");
+        } else if (!playing && registered) {
+            unregisterAll();
+            plugin.getPerformanceManager().increment("listeners.unregistered");
+        }
+    }
+
+    private void unregisterAll() {
+        for (Listener listener : playingListeners) {
+            HandlerList.unregisterAll(listener);
+        }
+        registered = false;
+    }
+
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * Shutdown listener gate
+     */
+    public void shutdown() {
+        if (registered) {
+            unregisterAll();
+        }
+        playingListeners.clear();
+    }
+}
@@ -0,0 +1,150 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.cwresports.ctfcore.CTFCore;
+
+/**
+ * Samples the server's average tick time and throttles cosmetic work while the server is struggling
+ * Tiers are entered after several slow samples in a row and left only once MSPT has stayed below the
+ * threshold minus a margin for longer, so the tier does not flap around a threshold
+ */
+public class LoadGovernorManager {
+
+    /**
+     * Degradation tiers, from full quality to the minimum cosmetic work
+     */
+    public enum Tier {
+        NORMAL(1, false, false),
+        REDUCED(2, true, false),
+        CRITICAL(4, true, true);
+
+        private final int refreshMultiplier;
+        private final boolean particlesPaused;
+        private final boolean broadcastsCoalesced;
+
+        Tier(int refreshMultiplier, boolean particlesPaused, boolean broadcastsCoalesced) {
+            this.refreshMultiplier = refreshMultiplier;
+            this.particlesPaused = particlesPaused;
+            this.broadcastsCoalesced = broadcastsCoalesced;
+        }
+
+        public int getRefreshMultiplier() {
+            return refreshMultiplier;
+        }
+    }
+
+    private final CTFCore plugin;
+    private final double reducedMspt;
+    private final double criticalMspt;
+    private final double recoverMargin;
+    private final int enterSamples;
+    private final int recoverSamples;
+
+    private volatile Tier tier = Tier.NORMAL;
+    private volatile double lastMspt;
+    private int slowSamples;
+    private int fastSamples;
+    private BukkitTask sampleTask;
+
+    public LoadGovernorManager(CTFCore plugin) {
+        this.plugin = plugin;
+
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        this.reducedMspt = config.getDouble("load-governor.reduced-mspt", 40.0);
+        this.criticalMspt = config.getDouble("load-governor.critical-mspt", 48.0);
+        this.recoverMargin = config.getDouble("load-governor.recover-margin-mspt", 5.0);
+        this.enterSamples = Math.max(1, config.getInt("load-governor.enter-samples", 3));
+        this.recoverSamples = Math.max(1, config.getInt("load-governor.recover-samples", 10));
+
+        if (config.getBoolean("load-governor.enabled", true)) {
+            int interval = Math.max(1, config.getInt("load-governor.sample-interval-ticks", 20));
+            this.sampleTask = new BukkitRunnable() {
+                @Override
+                public void run() {
+                    sample(Bukkit.getAverageTickTime());
+                }
+            }.runTaskTimer(plugin, interval, interval);
+        }
+    }
+
+    /**
+     * Feed one MSPT sample and move at most one tier up or down
+     */
+    private void sample(double mspt) {
+        lastMspt = mspt;
+
+        Tier target = mspt >= criticalMspt ? Tier.CRITICAL : mspt >= reducedMspt ? Tier.REDUCED : Tier.NORMAL;
+        Tier current = tier;
+
+        if (target.ordinal() > current.ordinal()) {
+            fastSamples = 0;
+            if (++slowSamples >= enterSamples) {
+                slowSamples = 0;
+                setTier(Tier.values()[current.ordinal() + 1], mspt);
+            }
+            return;
+        }
+        slowSamples = 0;
+
+        // Recover only once MSPT is clearly below the threshold of the current tier
+        double recoverBelow = (current == Tier.CRITICAL ? criticalMspt : reducedMspt) - recoverMargin;
+        if (current != Tier.NORMAL && mspt < recoverBelow) {
+            if (++fastSamples >= recoverSamples) {
+                fastSamples = 0;
+                setTier(Tier.values()[current.ordinal() - 1], mspt);
+            }
+        } else {
+            fastSamples = 0;
+        }
+    }
+
+    private void setTier(Tier newTier, double mspt) {
+        Tier oldTier = tier;
+        tier = newTier;
+        plugin.getPerformanceManager().increment("governor.tier-change");
+
+        String message = String.format("Load governor: %s -> %s (%.1f mspt)", oldTier, newTier, mspt);
+        if (newTier.ordinal() > oldTier.ordinal()) {
+            plugin.getLogger().warning(message);
+        } else {
+            plugin.getLogger().info(message);
+        }
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    public double getLastMspt() {
+        return lastMspt;
+    }
+
+    /**
+     * Whether a periodic refresh should do its work on this run, slowed down by the current tier
+     */
+    public boolean shouldRefresh(long run) {
+        return run % tier.refreshMultiplier == 0;
+    }
+
+    public boolean areParticlesPaused() {
+        return tier.particlesPaused;
+    }
+
+    public boolean areBroadcastsCoalesced() {
+        return tier.broadcastsCoalesced;
+    }
+
+    /**
+     * Shutdown load governor
+     */
+    public void shutdown() {
+        if (sampleTask != null) {
+            sampleTask.cancel();
+            sampleTask = null;
+        }
+        tier = Tier.NORMAL;
+    }
+}
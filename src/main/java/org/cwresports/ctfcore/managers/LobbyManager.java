@@ -4,7 +4,6 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.cwresports.ctfcore.CTFCore;
 import org.cwresports.ctfcore.models.CTFGame;
 import org.cwresports.ctfcore.models.CTFPlayer;
@@ -24,6 +23,8 @@ public class LobbyManager {
     
     private final CTFCore plugin;
     private final Map<UUID, LobbyState> playerStates;
+    private final PerformanceManager.Timer validationTimer;
+    private ShardedPlayerTask validationTask;
     
     // Hotbar slot assignments
     private static final int LEAVE_SLOT = 8;
@@ -37,6 +38,7 @@ public class LobbyManager {
     
     public LobbyManager(CTFCore plugin) {
         this.plugin = plugin;
+        this.validationTimer = plugin.getPerformanceManager().timer("task.lobby-validation");
         this.playerStates = new ConcurrentHashMap<>();
         
         // Start periodic cleanup task
@@ -305,33 +307,38 @@ public class LobbyManager {
      * Start periodic cleanup task to fix any inconsistencies
      */
     private void startCleanupTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                // Clean up disconnected players
-                playerStates.entrySet().removeIf(entry -> {
-                    Player player = plugin.getServer().getPlayer(entry.getKey());
-                    return player == null || !player.isOnline();
-                });
-                
-                // Validate and fix player states
-                for (Player player : plugin.getServer().getOnlinePlayers()) {
-                    LobbyState currentState = playerStates.get(player.getUniqueId());
-                    CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
-                    LobbyState expectedState = determineLobbyState(ctfPlayer);
-                    
-                    // If state doesn't match expected, update it
-                    if (currentState != expectedState) {
-                        playerStates.put(player.getUniqueId(), expectedState);
-                        
-                        // Only update items if the change is significant
-                        if (shouldUpdateItems(currentState, expectedState)) {
-                            updatePlayerState(player);
-                        }
-                    }
-                }
+        // Every player is validated every 5 seconds, one bucket of players per tick
+        validationTask = new ShardedPlayerTask(plugin, 100, false, validationTimer,
+                this::validatePlayerState, this::removeDisconnectedPlayers).start();
+    }
+    
+    /**
+     * Clean up entries of disconnected players
+     */
+    private void removeDisconnectedPlayers() {
+        playerStates.entrySet().removeIf(entry -> {
+            Player player = plugin.getServer().getPlayer(entry.getKey());
+            return player == null || !player.isOnline();
+        });
+    }
+    
+    /**
+     * Fix a player whose lobby state drifted
+     */
+    private void validatePlayerState(Player player) {
+        LobbyState currentState = playerStates.get(player.getUniqueId());
+        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
+        LobbyState expectedState = determineLobbyState(ctfPlayer);
+        
+        // If state doesn't match expected, update it
+        if (currentState != expectedState) {
+            playerStates.put(player.getUniqueId(), expectedState);
+            
+            // Only update items if the change is significant
+            if (shouldUpdateItems(currentState, expectedState)) {
+                updatePlayerState(player);
             }
-        }.runTaskTimer(plugin, 100L, 100L); // Run every 5 seconds
+        }
     }
     
     /**
@@ -361,6 +368,10 @@ public class LobbyManager {
      * Shutdown cleanup
      */
     public void shutdown() {
+        if (validationTask != null) {
+            validationTask.cancel();
+            validationTask = null;
+        }
         playerStates.clear();
     }
 }
\ No newline at end of file
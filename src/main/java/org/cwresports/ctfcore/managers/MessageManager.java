@@ -1,7 +1,8 @@
 package org.cwresports.ctfcore.managers;
 
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
@@ -12,12 +13,14 @@ import org.cwresports.ctfcore.CTFCore;
 import org.cwresports.ctfcore.models.CTFGame;
 import org.cwresports.ctfcore.models.CTFPlayer;
 import org.cwresports.ctfcore.models.GameState;
+import org.cwresports.ctfcore.models.PlayerSession;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 /**
  * Enhanced message manager with comprehensive color code support and proper formatting
@@ -27,48 +30,93 @@ public class MessageManager {
     
     private final CTFCore plugin;
     private final Map<UUID, BossBar> playerBossBars;
-    private final Map<UUID, BossBar> spawnProtectionBars;
-    private final Map<UUID, BukkitTask> spawnProtectionTasks;
+    private final Map<CTFGame, BossBar> gameBossBars;
+    // Games whose boss bar title is resolved by PlaceholderAPI and shown through per-player bars instead
+    private final Set<CTFGame> perPlayerBossBarGames;
     
-    // Enhanced color code patterns for comprehensive support
-    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
-    private static final Pattern LEGACY_PATTERN = Pattern.compile("&([0-9A-Fa-fK-Ok-oRr])");
-    private static final Pattern SECTION_PATTERN = Pattern.compile("§([0-9A-Fa-fK-Ok-oRr])");
+    // Translated color strings are cached since most messages are constants
+    private final ColorTranslator colorTranslator;
     
-    // Color code mappings for comprehensive support
-    private static final Map<String, String> COLOR_MAPPINGS = new HashMap<>();
-    static {
-        // Standard colors
-        COLOR_MAPPINGS.put("&0", "§0"); COLOR_MAPPINGS.put("&1", "§1"); COLOR_MAPPINGS.put("&2", "§2"); COLOR_MAPPINGS.put("&3", "§3");
-        COLOR_MAPPINGS.put("&4", "§4"); COLOR_MAPPINGS.put("&5", "§5"); COLOR_MAPPINGS.put("&6", "§6"); COLOR_MAPPINGS.put("&7", "§7");
-        COLOR_MAPPINGS.put("&8", "§8"); COLOR_MAPPINGS.put("&9", "§9"); COLOR_MAPPINGS.put("&a", "§a"); COLOR_MAPPINGS.put("&b", "§b");
-        COLOR_MAPPINGS.put("&c", "§c"); COLOR_MAPPINGS.put("&d", "§d"); COLOR_MAPPINGS.put("&e", "§e"); COLOR_MAPPINGS.put("&f", "§f");
-        
-        // Formatting codes
-        COLOR_MAPPINGS.put("&l", "§l"); COLOR_MAPPINGS.put("&m", "§m"); COLOR_MAPPINGS.put("&n", "§n"); COLOR_MAPPINGS.put("&o", "§o");
-        COLOR_MAPPINGS.put("&r", "§r"); COLOR_MAPPINGS.put("&k", "§k");
-        
-        // Case insensitive versions
-        COLOR_MAPPINGS.put("&A", "§a"); COLOR_MAPPINGS.put("&B", "§b"); COLOR_MAPPINGS.put("&C", "§c"); COLOR_MAPPINGS.put("&D", "§d");
-        COLOR_MAPPINGS.put("&E", "§e"); COLOR_MAPPINGS.put("&F", "§f"); COLOR_MAPPINGS.put("&L", "§l"); COLOR_MAPPINGS.put("&M", "§m");
-        COLOR_MAPPINGS.put("&N", "§n"); COLOR_MAPPINGS.put("&O", "§o"); COLOR_MAPPINGS.put("&R", "§r"); COLOR_MAPPINGS.put("&K", "§k");
-    }
+    // Fade in, stay and fade out of 10, 40 and 10 ticks
+    private static final Title.Times TITLE_TIMES = Title.Times.times(
+            Duration.ofMillis(500), Duration.ofMillis(2000), Duration.ofMillis(500));
     
     public MessageManager(CTFCore plugin) {
         this.plugin = plugin;
         this.playerBossBars = new ConcurrentHashMap<>();
-        this.spawnProtectionBars = new ConcurrentHashMap<>();
-        this.spawnProtectionTasks = new ConcurrentHashMap<>();
+        this.gameBossBars = new ConcurrentHashMap<>();
+        this.perPlayerBossBarGames = ConcurrentHashMap.newKeySet();
+        this.colorTranslator = new ColorTranslator();
     }
     
     /**
      * Send title message to player with enhanced color code handling
      */
     public void sendTitle(Player player, String titleKey, String subtitleKey, Map<String, String> placeholders) {
+        sendTitle(player, titleKey, subtitleKey, placeholders, HudManager.Priority.NORMAL);
+    }
+    
+    /**
+     * Send title message to player through the HUD compositor with the given priority
+     */
+    public void sendTitle(Player player, String titleKey, String subtitleKey, Map<String, String> placeholders,
+                          HudManager.Priority priority) {
+        if (!plugin.getConfigManager().getMainConfig().getBoolean("messages.show-titles", true)) {
+            return;
+        }
+        
+        Title title = buildTitle(titleKey, subtitleKey, placeholders);
+        if (title != null) {
+            plugin.getHudManager().showTitle(player, title, priority);
+            return;
+        }
+        
+        sendPlaceholderTitle(player, titleKey, subtitleKey, placeholders, priority);
+    }
+    
+    /**
+     * Send title message to all players in game
+     * The title is rendered once and shared unless PlaceholderAPI has to resolve it per player
+     */
+    public void sendGameTitle(CTFGame game, String titleKey, String subtitleKey, Map<String, String> placeholders) {
         if (!plugin.getConfigManager().getMainConfig().getBoolean("messages.show-titles", true)) {
             return;
         }
         
+        Title title = buildTitle(titleKey, subtitleKey, placeholders);
+        for (CTFPlayer ctfPlayer : game.getPlayers()) {
+            Player player = ctfPlayer.getPlayer();
+            if (player != null && player.isOnline()) {
+                if (title != null) {
+                    plugin.getHudManager().showTitle(player, title, HudManager.Priority.NORMAL);
+                } else {
+                    sendPlaceholderTitle(player, titleKey, subtitleKey, placeholders, HudManager.Priority.NORMAL);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Build a title from the cached templates, or null if PlaceholderAPI must process it per player
+     */
+    private Title buildTitle(String titleKey, String subtitleKey, Map<String, String> placeholders) {
+        MessageTemplate titleTemplate = plugin.getConfigManager().getTitleTemplate(titleKey);
+        MessageTemplate subtitleTemplate = subtitleKey != null ? plugin.getConfigManager().getTitleTemplate(subtitleKey) : null;
+        
+        if (plugin.isPlaceholderAPIEnabled() && (titleTemplate.hasExternalPlaceholders() ||
+                (subtitleTemplate != null && subtitleTemplate.hasExternalPlaceholders()))) {
+            return null;
+        }
+        
+        Component subtitle = subtitleTemplate != null ? subtitleTemplate.render(placeholders) : Component.empty();
+        return Title.title(titleTemplate.render(placeholders), subtitle, TITLE_TIMES);
+    }
+    
+    /**
+     * Send a title through PlaceholderAPI and the string color pipeline
+     */
+    private void sendPlaceholderTitle(Player player, String titleKey, String subtitleKey, Map<String, String> placeholders,
+                                      HudManager.Priority priority) {
         String title = plugin.getConfigManager().getMessage(titleKey, placeholders);
         String subtitle = subtitleKey != null ? plugin.getConfigManager().getMessage(subtitleKey, placeholders) : "";
         
@@ -82,89 +130,163 @@ public class MessageManager {
         subtitle = enhancedColorProcessing(subtitle.replace(prefix, ""));
         
         // Send title with proper timing
-        player.sendTitle(title, subtitle, 10, 40, 10);
+        plugin.getHudManager().showTitle(player, title, subtitle, 10, 40, 10, priority);
     }
     
     /**
-     * Send title message to all players in game
+     * Create or update boss bar for player with enhanced color processing
      */
-    public void sendGameTitle(CTFGame game, String titleKey, String subtitleKey, Map<String, String> placeholders) {
-        for (CTFPlayer ctfPlayer : game.getPlayers()) {
-            Player player = ctfPlayer.getPlayer();
-            if (player != null && player.isOnline()) {
-                sendTitle(player, titleKey, subtitleKey, placeholders);
-            }
+    public void updateBossBar(Player player, String messageKey, Map<String, String> placeholders, double progress) {
+        if (!plugin.getConfigManager().getMainConfig().getBoolean("messages.show-boss-bar", true)) {
+            return;
         }
+        
+        BossBar bossBar = playerBossBars.computeIfAbsent(player.getUniqueId(), uuid -> {
+            BossBar bar = createBossBar();
+            bar.addPlayer(player);
+            return bar;
+        });
+        
+        applyBossBar(bossBar, renderBossBarTitle(player, messageKey, placeholders), progress);
     }
     
     /**
-     * Create or update boss bar for player with enhanced color processing
+     * Update the shared boss bar of a game
+     * The title is rendered once per game, players are added as viewers when they join
      */
-    public void updateBossBar(Player player, String messageKey, Map<String, String> placeholders, double progress) {
+    public void updateGameBossBar(CTFGame game, String messageKey, Map<String, String> placeholders, double progress) {
         if (!plugin.getConfigManager().getMainConfig().getBoolean("messages.show-boss-bar", true)) {
             return;
         }
         
-        BossBar bossBar = playerBossBars.get(player.getUniqueId());
-        if (bossBar == null) {
-            String colorName = plugin.getConfigManager().getMainConfig().getString("messages.boss-bar-color", "YELLOW");
-            String styleName = plugin.getConfigManager().getMainConfig().getString("messages.boss-bar-style", "SOLID");
-            
-            BarColor color;
-            try {
-                color = BarColor.valueOf(colorName.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                color = BarColor.YELLOW;
+        // Titles resolved by PlaceholderAPI differ per player, so those keep a bar each
+        // A game shows one kind of bar at a time, switching paths hides the bars of the other one
+        if (plugin.isPlaceholderAPIEnabled() && plugin.getConfigManager().getTitleTemplate(messageKey).hasExternalPlaceholders()) {
+            if (perPlayerBossBarGames.add(game)) {
+                BossBar sharedBossBar = gameBossBars.remove(game);
+                if (sharedBossBar != null) {
+                    sharedBossBar.removeAll();
+                }
             }
-            
-            BarStyle style;
-            try {
-                style = BarStyle.valueOf(styleName.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                style = BarStyle.SOLID;
+            for (CTFPlayer ctfPlayer : game.getPlayers()) {
+                Player player = ctfPlayer.getPlayer();
+                if (player != null && player.isOnline()) {
+                    updateBossBar(player, messageKey, placeholders, progress);
+                }
             }
-            
-            bossBar = Bukkit.createBossBar("", color, style);
-            bossBar.addPlayer(player);
-            playerBossBars.put(player.getUniqueId(), bossBar);
+            return;
         }
         
+        BossBar bossBar = getGameBossBar(game);
+        if (perPlayerBossBarGames.remove(game)) {
+            for (CTFPlayer ctfPlayer : game.getPlayers()) {
+                BossBar playerBossBar = playerBossBars.remove(ctfPlayer.getPlayerId());
+                if (playerBossBar != null) {
+                    playerBossBar.removeAll();
+                }
+                Player player = ctfPlayer.getPlayer();
+                if (player != null && player.isOnline()) {
+                    bossBar.addPlayer(player);
+                }
+            }
+        }
+        
+        applyBossBar(bossBar, renderBossBarTitle(null, messageKey, placeholders), progress);
+    }
+    
+    /**
+     * Add a player as a viewer of the shared boss bar of their game
+     * Games on per-player bars give the player their own bar on the next update instead
+     */
+    public void showGameBossBar(CTFGame game, Player player) {
+        if (!plugin.getConfigManager().getMainConfig().getBoolean("messages.show-boss-bar", true)) {
+            return;
+        }
+        
+        if (!perPlayerBossBarGames.contains(game)) {
+            getGameBossBar(game).addPlayer(player);
+        }
+    }
+    
+    /**
+     * Remove the shared boss bar of a game once the game is gone
+     */
+    public void removeGameBossBar(CTFGame game) {
+        perPlayerBossBarGames.remove(game);
+        BossBar bossBar = gameBossBars.remove(game);
+        if (bossBar != null) {
+            bossBar.removeAll();
+        }
+    }
+    
+    private BossBar getGameBossBar(CTFGame game) {
+        return gameBossBars.computeIfAbsent(game, g -> createBossBar());
+    }
+    
+    /**
+     * Create a boss bar with the configured color and style
+     */
+    private BossBar createBossBar() {
+        String colorName = plugin.getConfigManager().getMainConfig().getString("messages.boss-bar-color", "YELLOW");
+        String styleName = plugin.getConfigManager().getMainConfig().getString("messages.boss-bar-style", "SOLID");
+        
+        BarColor color;
+        try {
+            color = BarColor.valueOf(colorName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            color = BarColor.YELLOW;
+        }
+        
+        BarStyle style;
+        try {
+            style = BarStyle.valueOf(styleName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            style = BarStyle.SOLID;
+        }
+        
+        return Bukkit.createBossBar("", color, style);
+    }
+    
+    /**
+     * Render a boss bar title without the prefix, through PlaceholderAPI when a player is given
+     */
+    private String renderBossBarTitle(Player player, String messageKey, Map<String, String> placeholders) {
         String message = plugin.getConfigManager().getMessage(messageKey, placeholders);
         
         // Process PlaceholderAPI placeholders
-        message = plugin.processPlaceholders(player, message);
+        if (player != null) {
+            message = plugin.processPlaceholders(player, message);
+        }
         
         // Remove prefix from boss bar messages and apply enhanced color processing
         String prefix = plugin.getConfigManager().getMessage("plugin-prefix", new HashMap<>());
-        message = enhancedColorProcessing(message.replace(prefix, ""));
-        
-        bossBar.setTitle(message);
-        bossBar.setProgress(Math.max(0.0, Math.min(1.0, progress)));
+        return enhancedColorProcessing(message.replace(prefix, ""));
     }
     
     /**
-     * Update boss bar for all players in game
+     * Set title and progress, skipping the update packets when nothing changed
      */
-    public void updateGameBossBar(CTFGame game, String messageKey, Map<String, String> placeholders, double progress) {
-        for (CTFPlayer ctfPlayer : game.getPlayers()) {
-            Player player = ctfPlayer.getPlayer();
-            if (player != null && player.isOnline()) {
-                updateBossBar(player, messageKey, placeholders, progress);
-            }
+    private void applyBossBar(BossBar bossBar, String title, double progress) {
+        if (!title.equals(bossBar.getTitle())) {
+            bossBar.setTitle(title);
+        }
+        
+        double clamped = Math.max(0.0, Math.min(1.0, progress));
+        if (bossBar.getProgress() != clamped) {
+            bossBar.setProgress(clamped);
         }
     }
     
     /**
      * Show enhanced spawn protection boss bar with proper color formatting
      */
-    public void showSpawnProtectionBossBar(Player player) {
+    public void showSpawnProtectionBossBar(Player player, PlayerSession session) {
         // Remove any existing spawn protection boss bar
-        removeSpawnProtectionBossBar(player);
+        removeSpawnProtectionBossBar(session);
         
         // Create new spawn protection boss bar
         BossBar spawnBar = Bukkit.createBossBar("", BarColor.GREEN, BarStyle.SOLID);
         spawnBar.addPlayer(player);
-        spawnProtectionBars.put(player.getUniqueId(), spawnBar);
         
         // Start countdown task
         BukkitTask task = new BukkitRunnable() {
@@ -174,7 +296,7 @@ public class MessageManager {
             public void run() {
                 if (!player.isOnline()) {
                     cancel();
-                    removeSpawnProtectionBossBar(player);
+                    removeSpawnProtectionBossBar(session);
                     return;
                 }
                 
@@ -185,9 +307,11 @@ public class MessageManager {
                     spawnBar.setColor(BarColor.RED);
                     spawnBar.setProgress(0.0);
                     
-                    // Remove after 1 second
+                    // Remove after 1 second, unless a newer protection replaced this bar meanwhile
                     plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                        removeSpawnProtectionBossBar(player);
+                        if (session.getSpawnProtectionBar() == spawnBar) {
+                            removeSpawnProtectionBossBar(session);
+                        }
                     }, 20L);
                     
                     cancel();
@@ -203,22 +327,14 @@ public class MessageManager {
             }
         }.runTaskTimer(plugin, 0L, 20L);
         
-        spawnProtectionTasks.put(player.getUniqueId(), task);
+        session.setSpawnProtectionBar(spawnBar, task);
     }
     
     /**
      * Remove spawn protection boss bar immediately (called when player attacks)
      */
-    public void removeSpawnProtectionBossBar(Player player) {
-        BossBar spawnBar = spawnProtectionBars.remove(player.getUniqueId());
-        if (spawnBar != null) {
-            spawnBar.removeAll();
-        }
-        
-        BukkitTask task = spawnProtectionTasks.remove(player.getUniqueId());
-        if (task != null) {
-            task.cancel();
-        }
+    public void removeSpawnProtectionBossBar(PlayerSession session) {
+        session.clearSpawnProtectionBar();
     }
     
     /**
@@ -336,79 +452,10 @@ public class MessageManager {
 
     /**
      * Enhanced color code processing with comprehensive support
-     * Handles legacy codes, section codes, hex codes, and nested formatting
+     * Handles legacy codes, section codes, hex codes, and nested formatting in a single pass
      */
     private String enhancedColorProcessing(String text) {
-        if (text == null || text.isEmpty()) {
-            return "";
-        }
-        
-        // Step 1: Handle hex colors (&#RRGGBB format)
-        text = processHexColors(text);
-        
-        // Step 2: Convert all & codes to § codes using ChatColor translation
-        text = ChatColor.translateAlternateColorCodes('&', text);
-        
-        // Step 3: Additional manual processing for any missed codes
-        text = processRemainingColorCodes(text);
-        
-        // Step 4: Handle special formatting combinations
-        text = processSpecialFormatting(text);
-        
-        return text;
-    }
-    
-    /**
-     * Process hex color codes (&#RRGGBB format)
-     */
-    private String processHexColors(String text) {
-        if (text.contains("&#")) {
-            // For 1.16+ servers with hex support
-            try {
-                return HEX_PATTERN.matcher(text).replaceAll(match -> {
-                    String hexCode = match.group(1);
-                    return "§x§" + hexCode.charAt(0) + "§" + hexCode.charAt(1) + "§" + 
-                           hexCode.charAt(2) + "§" + hexCode.charAt(3) + "§" + 
-                           hexCode.charAt(4) + "§" + hexCode.charAt(5);
-                });
-            } catch (Exception e) {
-                // If hex colors aren't supported, fall back to nearest color
-                return text.replaceAll("&#[A-Fa-f0-9]{6}", "§f"); // Default to white
-            }
-        }
-        return text;
-    }
-    
-    /**
-     * Process any remaining color codes that weren't caught by ChatColor.translateAlternateColorCodes
-     */
-    private String processRemainingColorCodes(String text) {
-        for (Map.Entry<String, String> entry : COLOR_MAPPINGS.entrySet()) {
-            text = text.replace(entry.getKey(), entry.getValue());
-        }
-        return text;
-    }
-    
-    /**
-     * Process special formatting combinations and nested codes
-     */
-    private String processSpecialFormatting(String text) {
-        // Handle common formatting patterns
-        text = text.replace("§l§c", "§c§l"); // Ensure color comes before formatting
-        text = text.replace("§l§a", "§a§l");
-        text = text.replace("§l§e", "§e§l");
-        text = text.replace("§l§b", "§b§l");
-        text = text.replace("§l§d", "§d§l");
-        text = text.replace("§l§f", "§f§l");
-        text = text.replace("§l§6", "§6§l");
-        text = text.replace("§l§9", "§9§l");
-        
-        // Handle reset sequences
-        text = text.replace("§r§l", "§r§l");
-        text = text.replace("§r§c", "§r§c");
-        text = text.replace("§r§a", "§r§a");
-        
-        return text;
+        return colorTranslator.translateCached(text);
     }
     
     /**
@@ -444,19 +491,14 @@ public class MessageManager {
             bossBar.removeAll();
         }
         
+        for (BossBar gameBossBar : gameBossBars.values()) {
+            gameBossBar.removePlayer(player);
+        }
+        
         // Also clear spawn protection boss bar
-        removeSpawnProtectionBossBar(player);
-    }
-    
-    /**
-     * Clear boss bars for all players in game
-     */
-    public void clearGameBossBars(CTFGame game) {
-        for (CTFPlayer ctfPlayer : game.getPlayers()) {
-            Player player = ctfPlayer.getPlayer();
-            if (player != null) {
-                clearBossBar(player);
-            }
+        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
+        if (ctfPlayer != null) {
+            removeSpawnProtectionBossBar(ctfPlayer.getSession());
         }
     }
     
@@ -469,14 +511,10 @@ public class MessageManager {
         }
         playerBossBars.clear();
         
-        for (BossBar spawnBar : spawnProtectionBars.values()) {
-            spawnBar.removeAll();
-        }
-        spawnProtectionBars.clear();
-        
-        for (BukkitTask task : spawnProtectionTasks.values()) {
-            task.cancel();
+        for (BossBar gameBossBar : gameBossBars.values()) {
+            gameBossBar.removeAll();
         }
-        spawnProtectionTasks.clear();
+        gameBossBars.clear();
+        perPlayerBossBarGames.clear();
     }
 }
\ No newline at end of file
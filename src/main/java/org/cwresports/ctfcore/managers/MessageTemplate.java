@@ -0,0 +1,212 @@
+package org.cwresports.ctfcore.managers;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Message template parsed once into an Adventure component
+ * Placeholder slots are filled at send time, so the template itself is never re-parsed
+ * Templates containing MiniMessage tags and no legacy codes are parsed with MiniMessage
+ */
+public class MessageTemplate {
+
+    public static final LegacyComponentSerializer LEGACY_SERIALIZER = LegacyComponentSerializer.builder()
+            .character(LegacyComponentSerializer.SECTION_CHAR)
+            .hexColors()
+            .useUnusualXRepeatedCharacterHexFormat()
+            .build();
+
+    private static final Pattern MINI_MESSAGE_TAG = Pattern.compile("<[a-zA-Z_#!/][^<>]*>");
+    private static final String[] EXTERNAL_PLACEHOLDER_PREFIXES = {"luckperms_", "vault_", "player_", "server_"};
+
+    // Slots are marked with private use characters while parsing and swapped for values when rendering
+    private static final char SLOT_FIRST = '\uE000';
+    private static final char SLOT_LAST = '\uF8FF';
+    private static final Pattern SLOT_PATTERN = Pattern.compile("[\uE000-\uF8FF]");
+
+    private final String source;
+    private final boolean enhancedColors;
+    private final boolean miniMessage;
+    private final boolean externalPlaceholders;
+    private final String[] slotNames;
+    private final Component component;
+
+    private MessageTemplate(String source, boolean enhancedColors, boolean miniMessage, boolean externalPlaceholders,
+                            String[] slotNames, Component component) {
+        this.source = source;
+        this.enhancedColors = enhancedColors;
+        this.miniMessage = miniMessage;
+        this.externalPlaceholders = externalPlaceholders;
+        this.slotNames = slotNames;
+        this.component = component;
+    }
+
+    /**
+     * Parse a template, using ColorTranslator for & codes when enhanced colors are requested
+     */
+    public static MessageTemplate compile(String source, boolean enhancedColors) {
+        if (source == null) {
+            source = "";
+        }
+
+        boolean miniMessage = source.indexOf('&') < 0 && source.indexOf(LegacyComponentSerializer.SECTION_CHAR) < 0 &&
+                MINI_MESSAGE_TAG.matcher(source).find();
+
+        List<String> slotNames = new ArrayList<>();
+        boolean externalPlaceholders = source.indexOf('%') >= 0;
+        boolean renderFromSource = false;
+        boolean inTag = false;
+        StringBuilder marked = new StringBuilder(source.length());
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c >= SLOT_FIRST && c <= SLOT_LAST) {
+                renderFromSource = true;
+            } else if (c == '<' || c == '>') {
+                inTag = c == '<';
+            }
+
+            int end = c == '{' ? source.indexOf('}', i + 1) : -1;
+            if (end > i + 1 && isSlotName(source, i + 1, end)) {
+                String name = source.substring(i + 1, end);
+                int slot = slotNames.indexOf(name);
+                if (slot < 0) {
+                    slot = slotNames.size();
+                    slotNames.add(name);
+                }
+                externalPlaceholders |= isExternalPlaceholder(name);
+                renderFromSource |= miniMessage && inTag;
+                marked.append((char) (SLOT_FIRST + slot));
+                i = end;
+                continue;
+            }
+
+            marked.append(c);
+        }
+
+        // Slot markers would clash with resource pack glyphs and cannot be replaced inside MiniMessage tag
+        // arguments, so such templates are rendered from source instead
+        if (renderFromSource && !slotNames.isEmpty()) {
+            return new MessageTemplate(source, enhancedColors, miniMessage, externalPlaceholders,
+                    slotNames.toArray(new String[0]), null);
+        }
+
+        Component component = parse(marked.toString(), miniMessage, enhancedColors);
+        return new MessageTemplate(source, enhancedColors, miniMessage, externalPlaceholders,
+                slotNames.toArray(new String[0]), component);
+    }
+
+    private static boolean isSlotName(String source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isExternalPlaceholder(String name) {
+        for (String prefix : EXTERNAL_PLACEHOLDER_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Component parse(String text, boolean miniMessage, boolean enhancedColors) {
+        if (miniMessage) {
+            return MiniMessage.miniMessage().deserialize(text);
+        }
+
+        String colored = enhancedColors ? ColorTranslator.translate(text) : ChatColor.translateAlternateColorCodes('&', text);
+        return LEGACY_SERIALIZER.deserialize(colored);
+    }
+
+    /**
+     * Render the template with placeholder values, reusing the parsed component
+     */
+    public Component render(Map<String, String> placeholders) {
+        if (slotNames.length == 0) {
+            return component;
+        }
+        if (component == null) {
+            return renderFromSource(placeholders);
+        }
+
+        String[] values = new String[slotNames.length];
+        for (int i = 0; i < slotNames.length; i++) {
+            String value = placeholders != null ? placeholders.get(slotNames[i]) : null;
+            if (value == null) {
+                value = "{" + slotNames[i] + "}";
+            } else if (!miniMessage && (value.indexOf('&') >= 0 || value.indexOf(LegacyComponentSerializer.SECTION_CHAR) >= 0)) {
+                // Color codes in a value restyle the text after it, which only a full parse reproduces
+                return renderFromSource(placeholders);
+            }
+            values[i] = value;
+        }
+
+        return component.replaceText(TextReplacementConfig.builder()
+                .match(SLOT_PATTERN)
+                .replacement((match, builder) -> {
+                    String value = values[match.group().charAt(0) - SLOT_FIRST];
+                    if (miniMessage && (value.indexOf('&') >= 0 || value.indexOf(LegacyComponentSerializer.SECTION_CHAR) >= 0)) {
+                        return builder.content("").append(parse(value, false, enhancedColors));
+                    }
+                    return builder.content(value);
+                })
+                .build());
+    }
+
+    /**
+     * Render from source with a string step before parsing, such as PlaceholderAPI for one player
+     */
+    public Component render(Map<String, String> placeholders, UnaryOperator<String> preprocessor) {
+        return parse(preprocessor.apply(fill(placeholders)), miniMessage, enhancedColors);
+    }
+
+    private Component renderFromSource(Map<String, String> placeholders) {
+        return parse(fill(placeholders), miniMessage, enhancedColors);
+    }
+
+    /**
+     * Substitute placeholders into the source string
+     */
+    private String fill(Map<String, String> placeholders) {
+        String text = source;
+        if (placeholders != null) {
+            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+                text = text.replace("{" + entry.getKey() + "}", entry.getValue());
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Whether rendering needs no placeholder values, so the same component can go to every recipient
+     */
+    public boolean isStatic() {
+        return slotNames.length == 0;
+    }
+
+    /**
+     * Whether the template refers to PlaceholderAPI placeholders that must be resolved per player
+     */
+    public boolean hasExternalPlaceholders() {
+        return externalPlaceholders;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,270 @@
+package org.cwresports.ctfcore.managers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.scheduler.BukkitTask;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.models.CTFGame;
+import org.cwresports.ctfcore.models.CTFPlayer;
+import org.cwresports.ctfcore.models.GameState;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Optional Prometheus exporter served from the JDK's embedded HTTP server
+ * Game state is snapshotted on the main thread once per second and rendered on the HTTP thread
+ */
+public class MetricsExporterManager {
+
+    private static final String[] FLAG_EVENTS = {"taken", "captured", "dropped", "returned"};
+
+    private final CTFCore plugin;
+    private HttpServer server;
+    private ExecutorService executor;
+    private BukkitTask snapshotTask;
+    private volatile Snapshot snapshot;
+
+    // Flag event totals sampled once per second over the last minute
+    private final long[][] flagEventHistory;
+    private int historyIndex;
+
+    /**
+     * Immutable view of main-thread state used for rendering
+     */
+    private static class Snapshot {
+        private final Map<GameState, Integer> gamesByState;
+        private final Map<String, Integer> playersPerArena;
+        private final Map<String, Integer> trackedBlocksPerArena;
+        private final Map<String, Long> flagEventsPerMinute;
+        private final int onlinePlayers;
+        private final int playerSessions;
+        private final long playerSessionBytes;
+
+        public Snapshot(Map<GameState, Integer> gamesByState, Map<String, Integer> playersPerArena,
+                        Map<String, Integer> trackedBlocksPerArena, Map<String, Long> flagEventsPerMinute,
+                        int onlinePlayers, int playerSessions, long playerSessionBytes) {
+            this.gamesByState = gamesByState;
+            this.playersPerArena = playersPerArena;
+            this.trackedBlocksPerArena = trackedBlocksPerArena;
+            this.flagEventsPerMinute = flagEventsPerMinute;
+            this.onlinePlayers = onlinePlayers;
+            this.playerSessions = playerSessions;
+            this.playerSessionBytes = playerSessionBytes;
+        }
+    }
+
+    public MetricsExporterManager(CTFCore plugin) {
+        this.plugin = plugin;
+        this.flagEventHistory = new long[FLAG_EVENTS.length][60];
+        this.historyIndex = 0;
+
+        if (plugin.getConfigManager().getMainConfig().getBoolean("metrics-exporter.enabled", false)) {
+            start();
+        }
+    }
+
+    /**
+     * Start the snapshot task and HTTP server
+     */
+    private void start() {
+        String bindAddress = plugin.getConfigManager().getMainConfig().getString("metrics-exporter.bind-address", "127.0.0.1");
+        int port = plugin.getConfigManager().getMainConfig().getInt("metrics-exporter.port", 9464);
+        String path = plugin.getConfigManager().getMainConfig().getString("metrics-exporter.path", "/metrics");
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+            server.createContext(path, this::handleScrape);
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CTF-Core Metrics Exporter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.start();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not start metrics exporter on " + bindAddress + ":" + port + ": " + e.getMessage());
+            stopServer();
+            return;
+        }
+
+        refreshSnapshot();
+        snapshotTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::refreshSnapshot, 20L, 20L);
+
+        plugin.getLogger().info("Metrics exporter listening on http://" + bindAddress + ":" + port + path);
+    }
+
+    /**
+     * Capture game state on the main thread
+     */
+    private void refreshSnapshot() {
+        Map<GameState, Integer> gamesByState = new EnumMap<>(GameState.class);
+        for (GameState state : GameState.values()) {
+            gamesByState.put(state, 0);
+        }
+
+        Map<String, Integer> playersPerArena = new TreeMap<>();
+        Map<String, Integer> trackedBlocksPerArena = new TreeMap<>();
+        for (CTFGame game : plugin.getGameManager().getActiveGames()) {
+            gamesByState.merge(game.getState(), 1, Integer::sum);
+
+            String arenaName = game.getArena().getName();
+            playersPerArena.put(arenaName, game.getPlayers().size());
+            trackedBlocksPerArena.put(arenaName, plugin.getBlockTrackingManager().getTrackedBlockCount(arenaName));
+        }
+
+        // Flag events over the last minute, from the difference against the sample taken 60 seconds ago
+        Map<String, Long> flagEventsPerMinute = new LinkedHashMap<>();
+        int oldestIndex = (historyIndex + 1) % 60;
+        for (int i = 0; i < FLAG_EVENTS.length; i++) {
+            long total = plugin.getPerformanceManager().counter("flag." + FLAG_EVENTS[i]).sum();
+            flagEventHistory[i][historyIndex] = total;
+            flagEventsPerMinute.put(FLAG_EVENTS[i], Math.max(0, total - flagEventHistory[i][oldestIndex]));
+        }
+        historyIndex = oldestIndex;
+
+        int playerSessions = 0;
+        long playerSessionBytes = 0;
+        for (CTFPlayer ctfPlayer : plugin.getGameManager().getTrackedPlayers()) {
+            playerSessions++;
+            playerSessionBytes += ctfPlayer.getSession().estimateBytes();
+        }
+
+        snapshot = new Snapshot(gamesByState, playersPerArena, trackedBlocksPerArena, flagEventsPerMinute,
+                plugin.getServer().getOnlinePlayers().size(), playerSessions, playerSessionBytes);
+    }
+
+    /**
+     * Serve a scrape request
+     */
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Render all metrics in the Prometheus text exposition format
+     */
+    private String render() {
+        StringBuilder out = new StringBuilder(4096);
+        Snapshot current = snapshot;
+
+        if (current != null) {
+            header(out, "ctf_games", "gauge", "Active games by state");
+            for (Map.Entry<GameState, Integer> entry : current.gamesByState.entrySet()) {
+                out.append("ctf_games{state=\"").append(entry.getKey().name()).append("\"} ").append(entry.getValue()).append('\n');
+            }
+
+            header(out, "ctf_arena_players", "gauge", "Players in each active arena");
+            for (Map.Entry<String, Integer> entry : current.playersPerArena.entrySet()) {
+                out.append("ctf_arena_players{arena=\"").append(escape(entry.getKey())).append("\"} ").append(entry.getValue()).append('\n');
+            }
+
+            header(out, "ctf_block_journal_size", "gauge", "Blocks tracked for restoration in each arena");
+            for (Map.Entry<String, Integer> entry : current.trackedBlocksPerArena.entrySet()) {
+                out.append("ctf_block_journal_size{arena=\"").append(escape(entry.getKey())).append("\"} ").append(entry.getValue()).append('\n');
+            }
+
+            header(out, "ctf_flag_events_per_minute", "gauge", "Flag events during the last minute");
+            for (Map.Entry<String, Long> entry : current.flagEventsPerMinute.entrySet()) {
+                out.append("ctf_flag_events_per_minute{event=\"").append(entry.getKey()).append("\"} ").append(entry.getValue()).append('\n');
+            }
+
+            header(out, "ctf_online_players", "gauge", "Players online on the server");
+            out.append("ctf_online_players ").append(current.onlinePlayers).append('\n');
+
+            header(out, "ctf_player_sessions", "gauge", "In-game player sessions, including players awaiting reconnection");
+            out.append("ctf_player_sessions ").append(current.playerSessions).append('\n');
+
+            header(out, "ctf_player_session_bytes", "gauge", "Estimated memory held by in-game player sessions");
+            out.append("ctf_player_session_bytes ").append(current.playerSessionBytes).append('\n');
+        }
+
+        header(out, "ctf_flag_events_total", "counter", "Flag events since startup");
+        for (String event : FLAG_EVENTS) {
+            out.append("ctf_flag_events_total{event=\"").append(event).append("\"} ")
+                    .append(plugin.getPerformanceManager().counter("flag." + event).sum()).append('\n');
+        }
+
+        header(out, "ctf_load_tier", "gauge", "Load governor tier, 0 normal, 1 reduced, 2 critical");
+        out.append("ctf_load_tier ").append(plugin.getLoadGovernorManager().getTier().ordinal()).append('\n');
+
+        header(out, "ctf_mspt", "gauge", "Average tick time in milliseconds at the last governor sample");
+        out.append("ctf_mspt ").append(plugin.getLoadGovernorManager().getLastMspt()).append('\n');
+
+        header(out, "ctf_player_data_saves_in_flight", "gauge", "Player data saves currently being written");
+        out.append("ctf_player_data_saves_in_flight ").append(plugin.getPlayerDataManager().getSavesInFlight()).append('\n');
+
+        header(out, "ctf_subsystem_seconds", "summary", "Time spent in each instrumented task and listener");
+        for (PerformanceManager.Timer timer : plugin.getPerformanceManager().getTimersByTotalTime()) {
+            String label = escape(timer.getName());
+            appendQuantile(out, label, "0.5", timer.getPercentile(50));
+            appendQuantile(out, label, "0.95", timer.getPercentile(95));
+            appendQuantile(out, label, "0.99", timer.getPercentile(99));
+            out.append("ctf_subsystem_seconds_sum{subsystem=\"").append(label).append("\"} ")
+                    .append(timer.getTotalNanos() / 1_000_000_000.0).append('\n');
+            out.append("ctf_subsystem_seconds_count{subsystem=\"").append(label).append("\"} ")
+                    .append(timer.getCount()).append('\n');
+        }
+
+        return out.toString();
+    }
+
+    private void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void appendQuantile(StringBuilder out, String label, String quantile, long nanos) {
+        out.append("ctf_subsystem_seconds{subsystem=\"").append(label).append("\",quantile=\"").append(quantile).append("\"} ")
+                .append(nanos / 1_000_000_000.0).append('\n');
+    }
+
+    private String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private void stopServer() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Shutdown cleanup
+     */
+    public void shutdown() {
+        if (snapshotTask != null) {
+            snapshotTask.cancel();
+            snapshotTask = null;
+        }
+        stopServer();
+    }
+}
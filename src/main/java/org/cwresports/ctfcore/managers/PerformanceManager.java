@@ -0,0 +1,295 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.cwresports.ctfcore.CTFCore;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lightweight performance instrumentation for manager tasks and listeners
+ * Timings are recorded in nanoseconds into log-linear histograms that are cheap enough to leave on in production
+ */
+public class PerformanceManager {
+
+    private final CTFCore plugin;
+    private final Map<String, Timer> timers;
+    private final Map<String, LongAdder> counters;
+    private final long startTime;
+    private volatile boolean enabled;
+    private BukkitTask summaryTask;
+
+    /**
+     * HDR-style timing histogram with 8 linear sub-buckets per power of two (~12.5% precision)
+     * Recording is lock-free and safe from async threads
+     */
+    public static class Timer {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        private final String name;
+        private final PerformanceManager owner;
+        private final AtomicLongArray buckets;
+        private final LongAdder count;
+        private final LongAdder totalNanos;
+        private final AtomicLong maxNanos;
+
+        private Timer(String name, PerformanceManager owner) {
+            this.name = name;
+            this.owner = owner;
+            this.buckets = new AtomicLongArray(BUCKET_COUNT);
+            this.count = new LongAdder();
+            this.totalNanos = new LongAdder();
+            this.maxNanos = new AtomicLong();
+        }
+
+        /**
+         * Record the time elapsed since a System.nanoTime() start value
+         */
+        public void record(long startNanos) {
+            recordNanos(System.nanoTime() - startNanos);
+        }
+
+        /**
+         * Record a duration in nanoseconds
+         */
+        public void recordNanos(long nanos) {
+            if (!owner.enabled || nanos < 0) {
+                return;
+            }
+
+            buckets.incrementAndGet(bucketIndex(nanos));
+            count.increment();
+            totalNanos.add(nanos);
+
+            long currentMax = maxNanos.get();
+            while (nanos > currentMax && !maxNanos.compareAndSet(currentMax, nanos)) {
+                currentMax = maxNanos.get();
+            }
+        }
+
+        private static int bucketIndex(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long bucketUpperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            long subBucket = index % SUB_BUCKETS;
+            long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+            return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+        }
+
+        /**
+         * Get the value at a percentile (0-100) in nanoseconds
+         */
+        public long getPercentile(double percentile) {
+            long total = count.sum();
+            if (total == 0) {
+                return 0;
+            }
+
+            long target = Math.max(1, (long) Math.ceil(total * (percentile / 100.0)));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return Math.min(bucketUpperBound(i), maxNanos.get());
+                }
+            }
+            return maxNanos.get();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public double getMeanNanos() {
+            long total = count.sum();
+            return total == 0 ? 0 : (double) totalNanos.sum() / total;
+        }
+
+        /**
+         * Clear all recorded values
+         */
+        public void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+    }
+
+    public PerformanceManager(CTFCore plugin) {
+        this.plugin = plugin;
+        this.timers = new ConcurrentHashMap<>();
+        this.counters = new ConcurrentHashMap<>();
+        this.startTime = System.currentTimeMillis();
+        this.enabled = plugin.getConfigManager().getMainConfig().getBoolean("performance.enabled", true);
+
+        startSummaryTask();
+    }
+
+    /**
+     * Get or create a named timer, callers should keep the returned instance in a field
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new Timer(key, this));
+    }
+
+    /**
+     * Get or create a named counter
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Increment a named counter
+     */
+    public void increment(String name) {
+        if (enabled) {
+            counter(name).increment();
+        }
+    }
+
+    /**
+     * Get all timers sorted by total time spent, highest first
+     */
+    public List<Timer> getTimersByTotalTime() {
+        List<Timer> sorted = new ArrayList<>(timers.values());
+        sorted.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+        return sorted;
+    }
+
+    /**
+     * Get a snapshot of all counters
+     */
+    public Map<String, Long> getCounterSnapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Format a single timer as a summary line
+     */
+    public String formatTimer(Timer timer) {
+        return String.format("%s: n=%d mean=%s p50=%s p95=%s p99=%s max=%s total=%s",
+                timer.getName(),
+                timer.getCount(),
+                formatNanos((long) timer.getMeanNanos()),
+                formatNanos(timer.getPercentile(50)),
+                formatNanos(timer.getPercentile(95)),
+                formatNanos(timer.getPercentile(99)),
+                formatNanos(timer.getMaxNanos()),
+                formatNanos(timer.getTotalNanos()));
+    }
+
+    /**
+     * Format nanoseconds in a human readable unit
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000L) {
+            return nanos + "ns";
+        } else if (nanos < 1_000_000L) {
+            return String.format("%.1fus", nanos / 1_000.0);
+        } else if (nanos < 1_000_000_000L) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.2fs", nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Start periodic summary logging
+     */
+    private void startSummaryTask() {
+        int intervalSeconds = plugin.getConfigManager().getMainConfig().getInt("performance.log-interval-seconds", 300);
+        if (intervalSeconds <= 0) {
+            return;
+        }
+
+        summaryTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                logSummary();
+            }
+        }.runTaskTimerAsynchronously(plugin, intervalSeconds * 20L, intervalSeconds * 20L);
+    }
+
+    /**
+     * Log the most expensive timers
+     */
+    public void logSummary() {
+        if (!enabled || timers.isEmpty()) {
+            return;
+        }
+
+        int limit = plugin.getConfigManager().getMainConfig().getInt("performance.log-top-entries", 5);
+        List<Timer> sorted = getTimersByTotalTime();
+
+        plugin.getLogger().info("Performance summary (top " + Math.min(limit, sorted.size()) + " by total time, uptime " +
+                ((System.currentTimeMillis() - startTime) / 1000L) + "s):");
+        for (int i = 0; i < sorted.size() && i < limit; i++) {
+            plugin.getLogger().info("  " + formatTimer(sorted.get(i)));
+        }
+    }
+
+    /**
+     * Reset all timers and counters
+     */
+    public void reset() {
+        for (Timer timer : timers.values()) {
+            timer.reset();
+        }
+        for (LongAdder counter : counters.values()) {
+            counter.reset();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Shutdown cleanup
+     */
+    public void shutdown() {
+        if (summaryTask != null) {
+            summaryTask.cancel();
+            summaryTask = null;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.models.Arena;
+import org.cwresports.ctfcore.models.CTFGame;
+import org.cwresports.ctfcore.models.CTFPlayer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player snapshots of every CTF placeholder value, so PlaceholderAPI requests are a single map read
+ * Snapshots of players in a game are rebuilt at most once per tick, others only when their data changes
+ */
+public class PlaceholderCacheManager {
+
+    private final CTFCore plugin;
+    private final Map<UUID, Snapshot> snapshots;
+    private final PerformanceManager.Timer rebuildTimer;
+
+    // Shared by every player without saved data, so unknown players never go back to playerdata.yml
+    private volatile Snapshot defaultSnapshot;
+
+    /**
+     * Immutable placeholder values of one player
+     */
+    private static class Snapshot {
+        private final Map<String, String> values;
+        private final int tick;
+        private final boolean inGame;
+
+        Snapshot(Map<String, String> values, int tick, boolean inGame) {
+            this.values = values;
+            this.tick = tick;
+            this.inGame = inGame;
+        }
+    }
+
+    public PlaceholderCacheManager(CTFCore plugin) {
+        this.plugin = plugin;
+        this.snapshots = new ConcurrentHashMap<>();
+        this.rebuildTimer = plugin.getPerformanceManager().timer("placeholders.rebuild");
+    }
+
+    /**
+     * Get a placeholder value, or null if the placeholder is unknown
+     */
+    public String getValue(Player player, String params) {
+        Snapshot snapshot = snapshots.get(player.getUniqueId());
+        if (snapshot == null || (snapshot.inGame && snapshot.tick != Bukkit.getCurrentTick())) {
+            snapshot = rebuild(player);
+        }
+
+        String value = snapshot.values.get(params);
+        return value != null ? value : snapshot.values.get(params.toLowerCase());
+    }
+
+    /**
+     * Drop the snapshot of a player after their data, game or online state changed
+     */
+    public void invalidate(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    /**
+     * Drop every snapshot, used when player data is reloaded
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+        defaultSnapshot = null;
+    }
+
+    private Snapshot rebuild(Player player) {
+        long start = System.nanoTime();
+        try {
+            CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
+            Snapshot snapshot;
+
+            if (ctfPlayer != null) {
+                snapshot = new Snapshot(buildValues(ctfPlayer), Bukkit.getCurrentTick(), ctfPlayer.isInGame());
+            } else if (!plugin.getPlayerDataManager().hasPlayerData(player.getUniqueId())) {
+                snapshot = defaultSnapshot;
+                if (snapshot == null) {
+                    snapshot = new Snapshot(buildValues(new CTFPlayer(player, plugin.getPlayerDataManager()
+                            .loadPlayerData(player.getUniqueId()))), Bukkit.getCurrentTick(), false);
+                    defaultSnapshot = snapshot;
+                }
+            } else {
+                Map<String, Object> playerData = plugin.getPlayerDataManager().loadPlayerData(player.getUniqueId());
+                snapshot = new Snapshot(buildValues(new CTFPlayer(player, playerData)), Bukkit.getCurrentTick(), false);
+            }
+
+            // Offline players are not cached, their entry would never be invalidated
+            if (player.isOnline()) {
+                snapshots.put(player.getUniqueId(), snapshot);
+            }
+            return snapshot;
+        } finally {
+            rebuildTimer.record(start);
+        }
+    }
+
+    /**
+     * Compute every placeholder value of a player, including aliases
+     */
+    private Map<String, String> buildValues(CTFPlayer ctfPlayer) {
+        Map<String, String> values = new HashMap<>(64);
+
+        // Level system placeholders
+        values.put("level", String.valueOf(ctfPlayer.getLevel()));
+        String experience = String.valueOf(ctfPlayer.getExperience());
+        values.put("experience", experience);
+        values.put("xp", experience);
+        String xpForNextLevel = String.valueOf(ctfPlayer.getXPForNextLevel());
+        values.put("xp_for_next_level", xpForNextLevel);
+        values.put("xp_required", xpForNextLevel);
+        values.put("xp_progress", String.format("%.1f", ctfPlayer.getXPProgress() * 100));
+
+        // Session statistics
+        String kills = String.valueOf(ctfPlayer.getKills());
+        values.put("session_kills", kills);
+        values.put("kills", kills);
+        String deaths = String.valueOf(ctfPlayer.getDeaths());
+        values.put("session_deaths", deaths);
+        values.put("deaths", deaths);
+        String assists = String.valueOf(ctfPlayer.getAssists());
+        values.put("session_assists", assists);
+        values.put("assists", assists);
+        String captures = String.valueOf(ctfPlayer.getCaptures());
+        values.put("session_captures", captures);
+        values.put("captures", captures);
+        String returns = String.valueOf(ctfPlayer.getFlagReturns());
+        values.put("session_returns", returns);
+        values.put("returns", returns);
+        String kd = String.format("%.2f", ctfPlayer.getKDRatio());
+        values.put("session_kd", kd);
+
+        // Total statistics
+        values.put("total_kills", String.valueOf(ctfPlayer.getTotalKills()));
+        values.put("total_deaths", String.valueOf(ctfPlayer.getTotalDeaths()));
+        values.put("total_captures", String.valueOf(ctfPlayer.getTotalCaptures()));
+        values.put("total_returns", String.valueOf(ctfPlayer.getTotalFlagReturns()));
+        values.put("total_kd", kd);
+        values.put("games_played", String.valueOf(ctfPlayer.getGamesPlayed()));
+        values.put("games_won", String.valueOf(ctfPlayer.getGamesWon()));
+        values.put("win_rate", String.format("%.1f", ctfPlayer.getWinRate() * 100));
+
+        // Game status
+        values.put("in_game", ctfPlayer.isInGame() ? "true" : "false");
+        values.put("team", ctfPlayer.getTeam() != null ? ctfPlayer.getTeam().getName() : "none");
+        values.put("team_color", ctfPlayer.getTeam() != null ? ctfPlayer.getTeam().getColorCode() : "§f");
+        values.put("has_flag", ctfPlayer.hasFlag() ? "true" : "false");
+        if (ctfPlayer.hasFlag()) {
+            Arena.TeamColor flagTeam = ctfPlayer.getCarryingFlag().getTeam();
+            values.put("carrying_flag", flagTeam.getName());
+            values.put("carrying_flag_display", flagTeam.getColorCode() + "🚩 " + flagTeam.getName().toUpperCase() + " FLAG");
+        } else {
+            values.put("carrying_flag", "none");
+            values.put("carrying_flag_display", "");
+        }
+
+        // Arena information, scores and time
+        CTFGame game = ctfPlayer.isInGame() ? ctfPlayer.getGame() : null;
+        if (game != null) {
+            values.put("arena", game.getArena().getName());
+            values.put("arena_state", game.getState().toString().toLowerCase());
+            values.put("arena_players", String.valueOf(game.getPlayers().size()));
+            values.put("red_score", String.valueOf(game.getScore(Arena.TeamColor.RED)));
+            values.put("blue_score", String.valueOf(game.getScore(Arena.TeamColor.BLUE)));
+            values.put("red_kills", String.valueOf(game.getTeamKill(Arena.TeamColor.RED)));
+            values.put("blue_kills", String.valueOf(game.getTeamKill(Arena.TeamColor.BLUE)));
+            values.put("time_left", game.getFormattedTimeLeft());
+        } else {
+            values.put("arena", "none");
+            values.put("arena_state", "none");
+            values.put("arena_players", "0");
+            values.put("red_score", "0");
+            values.put("blue_score", "0");
+            values.put("red_kills", "0");
+            values.put("blue_kills", "0");
+            values.put("time_left", "00:00");
+        }
+
+        return values;
+    }
+
+    /**
+     * Shutdown placeholder cache
+     */
+    public void shutdown() {
+        invalidateAll();
+    }
+}
@@ -7,6 +7,7 @@ import org.cwresports.ctfcore.CTFCore;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages persistent player data including levels and experience
@@ -14,9 +15,13 @@ import java.util.UUID;
 public class PlayerDataManager {
 
     private final CTFCore plugin;
+    private final PerformanceManager.Timer saveTimer;
+    private final AtomicInteger savesInFlight;
 
     public PlayerDataManager(CTFCore plugin) {
         this.plugin = plugin;
+        this.saveTimer = plugin.getPerformanceManager().timer("io.player-data-save");
+        this.savesInFlight = new AtomicInteger();
     }
 
     /**
@@ -48,6 +53,14 @@ public class PlayerDataManager {
         return data;
     }
 
+    /**
+     * Check whether a player has saved data
+     */
+    public boolean hasPlayerData(UUID playerId) {
+        FileConfiguration config = plugin.getConfigManager().getConfig("playerdata.yml");
+        return config != null && config.isConfigurationSection("players." + playerId.toString());
+    }
+
     /**
      * Save player data to configuration
      */
@@ -70,7 +83,23 @@ public class PlayerDataManager {
         config.set(playerPath + ".games_played", data.get("games_played"));
         config.set(playerPath + ".games_won", data.get("games_won"));
 
-        plugin.getConfigManager().saveConfig("playerdata.yml");
+        plugin.getPlaceholderCacheManager().invalidate(playerId);
+
+        long start = System.nanoTime();
+        savesInFlight.incrementAndGet();
+        try {
+            plugin.getConfigManager().saveConfig("playerdata.yml");
+        } finally {
+            savesInFlight.decrementAndGet();
+            saveTimer.record(start);
+        }
+    }
+
+    /**
+     * Get number of player data saves currently being written
+     */
+    public int getSavesInFlight() {
+        return savesInFlight.get();
     }
 
     /**
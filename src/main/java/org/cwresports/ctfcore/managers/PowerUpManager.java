@@ -1,5 +1,6 @@
 package org.cwresports.ctfcore.managers;
 
+import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
@@ -31,6 +32,12 @@ public class PowerUpManager {
     private final Map<CTFGame, BukkitTask> spawnTasks;
     private final Map<Arena, List<Location>> powerupSpawnPoints;
 
+    // Action bar decorations, parsed once
+    private static final Component COLLECTED_MARKER = MessageTemplate.LEGACY_SERIALIZER.deserialize("§a§l✓ ");
+    private static final Component COLLECTED_MARKER_END = MessageTemplate.LEGACY_SERIALIZER.deserialize(" §a§l✓");
+    private static final Component SPAWNED_MARKER = MessageTemplate.LEGACY_SERIALIZER.deserialize("§e§l⚡ ");
+    private static final Component SPAWNED_MARKER_END = MessageTemplate.LEGACY_SERIALIZER.deserialize(" §e§l⚡");
+
     public enum PowerUpType {
         SPEED_BOOST("§e⚡ Speed Boost", Material.SUGAR,
                 new PotionEffect(PotionEffectType.SPEED, 300, 2)), // 15 seconds Speed III
@@ -100,6 +107,11 @@ public class PowerUpManager {
                         return;
                     }
 
+                    // Purely cosmetic, skipped while the server is under load
+                    if (plugin.getLoadGovernorManager().areParticlesPaused()) {
+                        return;
+                    }
+
                     // Rotating particle effect
                     Location center = armorStand.getLocation().add(0, 1, 0);
                     for (int i = 0; i < 3; i++) {
@@ -148,11 +160,11 @@ public class PowerUpManager {
             // Send message via action bar
             Map<String, String> placeholders = new HashMap<>();
             placeholders.put("powerup", type.getDisplayName());
-            String message = plugin.getConfigManager().getMessage("powerup-collected", placeholders);
+            Component message = plugin.getConfigManager().getMessageComponent("powerup-collected", placeholders);
 
             // Send action bar message
-            player.spigot().sendMessage(net.md_5.bungee.api.ChatMessageType.ACTION_BAR,
-                    new net.md_5.bungee.api.chat.TextComponent("§a§l✓ " + message + " §a§l✓"));
+            plugin.getHudManager().sendActionBar(player, Component.textOfChildren(COLLECTED_MARKER, message, COLLECTED_MARKER_END),
+                    HudManager.Priority.HIGH);
 
             // Remove the power-up
             remove();
@@ -291,14 +303,14 @@ public class PowerUpManager {
         // Announce to all players via action bar
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("powerup", randomType.getDisplayName());
-        String message = plugin.getConfigManager().getMessage("powerup-spawned", placeholders);
+        Component message = plugin.getConfigManager().getMessageComponent("powerup-spawned", placeholders);
+        Component actionBar = Component.textOfChildren(SPAWNED_MARKER, message, SPAWNED_MARKER_END);
 
         for (org.cwresports.ctfcore.models.CTFPlayer ctfPlayer : game.getPlayers()) {
             Player player = ctfPlayer.getPlayer();
             if (player != null && player.isOnline()) {
                 // Send action bar message
-                player.spigot().sendMessage(net.md_5.bungee.api.ChatMessageType.ACTION_BAR,
-                        new net.md_5.bungee.api.chat.TextComponent("§e§l⚡ " + message + " §e§l⚡"));
+                plugin.getHudManager().sendActionBar(player, actionBar, HudManager.Priority.NORMAL);
             }
         }
 
@@ -368,6 +380,23 @@ public class PowerUpManager {
         return spawnLoc;
     }
 
+    /**
+     * Check if any power-up of the game is within collection range of the player
+     */
+    public boolean hasPowerUpNear(Player player, CTFGame game) {
+        List<PowerUp> powerUps = activePowerUps.get(game);
+        if (powerUps == null) {
+            return false;
+        }
+
+        for (PowerUp powerUp : powerUps) {
+            if (powerUp.isNear(player, 2.0)) { // 2 block radius
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if a player is near any power-up and collect it
      */
@@ -1,9 +1,9 @@
 package org.cwresports.ctfcore.managers;
 
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scoreboard.*;
 import org.cwresports.ctfcore.CTFCore;
 import org.cwresports.ctfcore.models.Arena;
@@ -26,10 +26,12 @@ public class ScoreboardManager {
     private final CTFCore plugin;
     private final Map<UUID, Scoreboard> playerScoreboards;
     private final Map<UUID, String> adminViewingArena;
-    private final UpdateTask updateTask;
+    private final ShardedPlayerTask updateTask;
+    private final PerformanceManager.Timer updateTimer;
 
     public ScoreboardManager(CTFCore plugin) {
         this.plugin = plugin;
+        this.updateTimer = plugin.getPerformanceManager().timer("task.scoreboard-update");
         this.playerScoreboards = new HashMap<>();
         this.adminViewingArena = new ConcurrentHashMap<>();
 
@@ -47,8 +49,9 @@ public class ScoreboardManager {
         }
 
         if (scoreboardEnabled) {
-            this.updateTask = new UpdateTask();
-            this.updateTask.runTaskTimer(plugin, 0L, updateInterval);
+            // Each player is refreshed once per interval, spread over the ticks in between
+            this.updateTask = new ShardedPlayerTask(plugin, updateInterval, true, updateTimer,
+                    this::updatePlayerScoreboard, this::updateAdminScoreboards).start();
         } else {
             this.updateTask = null;
         }
@@ -104,15 +107,14 @@ public class ScoreboardManager {
 
         Scoreboard scoreboard = getOrCreateScoreboard(player);
 
-        String title = plugin.getConfigManager().getScoreboards().getString("lobby.title", "&6&lBEDWARS");
-        title = processPlaceholders(player, title);
+        Component title = getTitle(player, "lobby.title", "&6&lBEDWARS", null);
 
         Objective objective = scoreboard.getObjective("ctf_lobby");
         if (objective == null) {
             objective = scoreboard.registerNewObjective("ctf_lobby", Criteria.DUMMY, title);
             objective.setDisplaySlot(DisplaySlot.SIDEBAR);
         } else {
-            objective.setDisplayName(title);
+            objective.displayName(title);
         }
 
         // Clear existing scores
@@ -155,15 +157,14 @@ public class ScoreboardManager {
 
         Scoreboard scoreboard = getOrCreateScoreboard(player);
 
-        String title = plugin.getConfigManager().getScoreboards().getString("game-lobby.title", "&6&l*** LOBBY ***");
-        title = processPlaceholders(player, title);
+        Component title = getTitle(player, "game-lobby.title", "&6&l*** LOBBY ***", null);
 
         Objective objective = scoreboard.getObjective("ctf_game_lobby");
         if (objective == null) {
             objective = scoreboard.registerNewObjective("ctf_game_lobby", Criteria.DUMMY, title);
             objective.setDisplaySlot(DisplaySlot.SIDEBAR);
         } else {
-            objective.setDisplayName(title);
+            objective.displayName(title);
         }
 
         // Clear existing scores
@@ -198,15 +199,14 @@ public class ScoreboardManager {
 
         Scoreboard scoreboard = getOrCreateScoreboard(player);
 
-        String title = plugin.getConfigManager().getScoreboards().getString("game-playing.title", "&e&lCAPTURE THE FLAG");
-        title = processPlaceholders(player, title);
+        Component title = getTitle(player, "game-playing.title", "&e&lCAPTURE THE FLAG", null);
 
         Objective objective = scoreboard.getObjective("ctf_game_playing");
         if (objective == null) {
             objective = scoreboard.registerNewObjective("ctf_game_playing", Criteria.DUMMY, title);
             objective.setDisplaySlot(DisplaySlot.SIDEBAR);
         } else {
-            objective.setDisplayName(title);
+            objective.displayName(title);
         }
 
         // Clear existing scores
@@ -311,8 +311,8 @@ public class ScoreboardManager {
 
         // Team counts
         int maxPerTeam = plugin.getConfigManager().getGameplaySetting("max-players-per-team", 4);
-        text = text.replace("{red_count}", String.valueOf(game.getPlayersOnTeam(Arena.TeamColor.RED).size()));
-        text = text.replace("{blue_count}", String.valueOf(game.getPlayersOnTeam(Arena.TeamColor.BLUE).size()));
+        text = text.replace("{red_count}", String.valueOf(game.getTeamSize(Arena.TeamColor.RED)));
+        text = text.replace("{blue_count}", String.valueOf(game.getTeamSize(Arena.TeamColor.BLUE)));
         text = text.replace("{max_per_team}", String.valueOf(maxPerTeam));
 
         // Stats
@@ -456,9 +456,7 @@ public class ScoreboardManager {
         // Create a temporary scoreboard for admin
         Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
 
-        String title = plugin.getConfigManager().getScoreboards().getString("admin.title", "&e&lArena: {arena}");
-        title = title.replace("{arena}", arena.getName());
-        title = processPlaceholders(admin, title);
+        Component title = getTitle(admin, "admin.title", "&e&lArena: {arena}", Map.of("arena", arena.getName()));
 
         Objective objective = scoreboard.registerNewObjective("arena_setup", Criteria.DUMMY, title);
         objective.setDisplaySlot(DisplaySlot.SIDEBAR);
@@ -498,8 +496,8 @@ public class ScoreboardManager {
         if (game != null) {
             text = text.replace("{game_status}", getGameStateDisplay(game.getState()));
             text = text.replace("{player_count}", String.valueOf(game.getPlayers().size()));
-            text = text.replace("{red_players}", String.valueOf(game.getPlayersOnTeam(Arena.TeamColor.RED).size()));
-            text = text.replace("{blue_players}", String.valueOf(game.getPlayersOnTeam(Arena.TeamColor.BLUE).size()));
+            text = text.replace("{red_players}", String.valueOf(game.getTeamSize(Arena.TeamColor.RED)));
+            text = text.replace("{blue_players}", String.valueOf(game.getTeamSize(Arena.TeamColor.BLUE)));
             text = text.replace("{red_score}", String.valueOf(game.getScore(Arena.TeamColor.RED)));
             text = text.replace("{blue_score}", String.valueOf(game.getScore(Arena.TeamColor.BLUE)));
         } else {
@@ -556,6 +554,17 @@ public class ScoreboardManager {
         return plugin.getConfigManager().getScoreboards().getString(configKey, "&7Unknown");
     }
 
+    /**
+     * Get a sidebar title from its cached template, going through PlaceholderAPI only when it needs it
+     */
+    private Component getTitle(Player player, String path, String defaultValue, Map<String, String> placeholders) {
+        MessageTemplate template = plugin.getConfigManager().getScoreboardTemplate(path, defaultValue);
+        if (plugin.isPlaceholderAPIEnabled() && template.hasExternalPlaceholders()) {
+            return template.render(placeholders, text -> plugin.processPlaceholders(player, text));
+        }
+        return template.render(placeholders);
+    }
+
     /**
      * Process general placeholders (PlaceholderAPI, etc.)
      */
@@ -636,29 +645,20 @@ public class ScoreboardManager {
     }
 
     /**
-     * Update task for periodic scoreboard updates
+     * Refresh admin scoreboards for real-time arena viewing, once per update interval
      */
-    private class UpdateTask extends BukkitRunnable {
-        @Override
-        public void run() {
-            // Update game scoreboards
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                updatePlayerScoreboard(player);
-            }
-
-            // Update admin scoreboards for real-time arena viewing
-            for (Map.Entry<UUID, String> entry : adminViewingArena.entrySet()) {
-                Player admin = Bukkit.getPlayer(entry.getKey());
-                if (admin != null && admin.isOnline()) {
-                    Arena arena = plugin.getArenaManager().getArena(entry.getValue());
-                    if (arena != null) {
-                        updateAdminScoreboard(admin, arena);
-                    } else {
-                        // Arena doesn't exist anymore, remove from tracking
-                        removeAdminViewingArena(admin);
-                    }
+    private void updateAdminScoreboards() {
+        for (Map.Entry<UUID, String> entry : adminViewingArena.entrySet()) {
+            Player admin = Bukkit.getPlayer(entry.getKey());
+            if (admin != null && admin.isOnline()) {
+                Arena arena = plugin.getArenaManager().getArena(entry.getValue());
+                if (arena != null) {
+                    updateAdminScoreboard(admin, arena);
+                } else {
+                    // Arena doesn't exist anymore, remove from tracking
+                    removeAdminViewingArena(admin);
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
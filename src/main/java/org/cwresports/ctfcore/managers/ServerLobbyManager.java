@@ -4,6 +4,8 @@ import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.cwresports.ctfcore.CTFCore;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages server lobby functionality
  */
@@ -45,13 +47,27 @@ public class ServerLobbyManager {
      * Teleport player to server lobby
      */
     public boolean teleportToServerLobby(Player player) {
+        return teleportToServerLobby(player, false);
+    }
+    
+    /**
+     * Teleport player to server lobby, optionally spread over several ticks with other bulk returns
+     */
+    public boolean teleportToServerLobby(Player player, boolean staggered) {
         if (serverLobbySpawn == null) {
             player.sendMessage(plugin.getConfigManager().getMessage("server-lobby-not-set"));
             return false;
         }
         
-        player.teleport(serverLobbySpawn);
-        player.sendMessage(plugin.getConfigManager().getMessage("teleported-to-server-lobby"));
+        CompletableFuture<Boolean> teleport = staggered
+            ? plugin.getTeleportManager().queueTeleport(player, serverLobbySpawn)
+            : plugin.getTeleportManager().teleport(player, serverLobbySpawn);
+        
+        teleport.thenAccept(success -> {
+            if (success && player.isOnline()) {
+                player.sendMessage(plugin.getConfigManager().getMessage("teleported-to-server-lobby"));
+            }
+        });
         return true;
     }
     
@@ -0,0 +1,108 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.cwresports.ctfcore.CTFCore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Periodic per-player work spread over every tick of its interval
+ * Players are assigned to one bucket per tick of the interval by UUID hash and one bucket runs each tick,
+ * so every player is still refreshed once per interval while the cost per tick stays flat
+ * Buckets are filled once at the start of each cycle, players who join during a cycle are picked up by the next one
+ */
+public class ShardedPlayerTask extends BukkitRunnable {
+
+    private final CTFCore plugin;
+    private final int buckets;
+    private final boolean cosmetic;
+    private final PerformanceManager.Timer timer;
+    private final Consumer<Player> playerAction;
+    private final Runnable cycleAction;
+    private final List<List<Player>> bucketPlayers;
+    private long tick;
+
+    /**
+     * @param intervalTicks how often each player is processed, also the number of buckets
+     * @param cosmetic whether whole cycles may be skipped while the load governor is degrading cosmetics
+     * @param playerAction work done for each player once per interval
+     * @param cycleAction work done once per interval before the first bucket, may be null
+     */
+    public ShardedPlayerTask(CTFCore plugin, int intervalTicks, boolean cosmetic, PerformanceManager.Timer timer,
+                             Consumer<Player> playerAction, Runnable cycleAction) {
+        this.plugin = plugin;
+        this.buckets = Math.max(1, intervalTicks);
+        this.cosmetic = cosmetic;
+        this.timer = timer;
+        this.playerAction = playerAction;
+        this.cycleAction = cycleAction;
+        this.bucketPlayers = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            bucketPlayers.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedule the task to run every tick
+     */
+    public ShardedPlayerTask start() {
+        runTaskTimer(plugin, 1L, 1L);
+        return this;
+    }
+
+    @Override
+    public void run() {
+        int bucket = (int) (tick % buckets);
+        long cycle = tick / buckets;
+        tick++;
+
+        if (cosmetic && !plugin.getLoadGovernorManager().shouldRefresh(cycle)) {
+            return;
+        }
+
+        // Empty buckets are not recorded, so the timer reflects the ticks that did work
+        List<Player> players = bucketPlayers.get(bucket);
+        if (bucket != 0 && players.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (bucket == 0) {
+                fillBuckets();
+                if (cycleAction != null) {
+                    cycleAction.run();
+                }
+            }
+
+            for (Player player : players) {
+                if (player.isOnline()) {
+                    playerAction.accept(player);
+                }
+            }
+        } finally {
+            timer.record(start);
+        }
+    }
+
+    /**
+     * Sort the online players into buckets for the cycle that starts now
+     */
+    private void fillBuckets() {
+        for (List<Player> players : bucketPlayers) {
+            players.clear();
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            bucketPlayers.get(bucketOf(player.getUniqueId())).add(player);
+        }
+    }
+
+    private int bucketOf(UUID playerId) {
+        return Math.floorMod(playerId.hashCode(), buckets);
+    }
+}
@@ -146,8 +146,8 @@ public class SpectatorManager {
                     return;
                 }
                 
-                // Send game info every 10 seconds
-                if (ticks % 200 == 0) {
+                // Send game info every 10 seconds, less often while the server is under load
+                if (ticks % 200 == 0 && plugin.getLoadGovernorManager().shouldRefresh(ticks / 200)) {
                     sendGameInfo(player, game);
                 }
                 
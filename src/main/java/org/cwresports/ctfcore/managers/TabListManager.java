@@ -3,7 +3,6 @@ package org.cwresports.ctfcore.managers;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
 import org.cwresports.ctfcore.CTFCore;
@@ -21,19 +20,59 @@ public class TabListManager {
     
     private final CTFCore plugin;
     private final Map<UUID, Set<UUID>> playerVisiblePlayers;
-    private final UpdateTask updateTask;
+    private final Map<String, AudienceHeader> audienceHeaders;
+    private final Map<UUID, String> sentHeaders;
+    private final Map<UUID, String> sentListNames;
+    private final int updateInterval;
+    private final ShardedPlayerTask updateTask;
+    private final PerformanceManager.Timer updateTimer;
+
+    /**
+     * Header or footer rendered for everyone in the server lobby or in one arena, reused until the next update interval
+     * Text with PlaceholderAPI placeholders keeps them unresolved and colors untranslated, since their values
+     * can differ per player and are resolved for each player like {player} and {level}
+     */
+    private static class AudienceText {
+        private final String text;
+        private final boolean perPlayer;
+
+        AudienceText(String text, boolean perPlayer) {
+            this.text = text;
+            this.perPlayer = perPlayer;
+        }
+    }
+
+    /**
+     * Header and footer of one audience
+     */
+    private static class AudienceHeader {
+        private final AudienceText header;
+        private final AudienceText footer;
+        private final int renderedTick;
+
+        AudienceHeader(AudienceText header, AudienceText footer, int renderedTick) {
+            this.header = header;
+            this.footer = footer;
+            this.renderedTick = renderedTick;
+        }
+    }
     
     public TabListManager(CTFCore plugin) {
         this.plugin = plugin;
+        this.updateTimer = plugin.getPerformanceManager().timer("task.tablist-update");
         this.playerVisiblePlayers = new ConcurrentHashMap<>();
+        this.audienceHeaders = new HashMap<>();
+        this.sentHeaders = new HashMap<>();
+        this.sentListNames = new HashMap<>();
         
         // Start update task if tab list is enabled
         boolean enabled = plugin.getConfigManager().getScoreboards().getBoolean("tablist.enabled", true);
-        int updateInterval = plugin.getConfigManager().getScoreboards().getInt("tablist.update-interval-ticks", 20);
+        this.updateInterval = Math.max(1, plugin.getConfigManager().getScoreboards().getInt("tablist.update-interval-ticks", 20));
         
         if (enabled) {
-            this.updateTask = new UpdateTask();
-            this.updateTask.runTaskTimer(plugin, 0L, updateInterval);
+            // Each player is refreshed once per interval, spread over the ticks in between
+            this.updateTask = new ShardedPlayerTask(plugin, updateInterval, true, updateTimer,
+                    this::updatePlayerTabList, null).start();
         } else {
             this.updateTask = null;
         }
@@ -48,16 +87,20 @@ public class TabListManager {
         }
         
         boolean arenaIsolation = plugin.getConfigManager().getScoreboards().getBoolean("tablist.arena-isolation", true);
+        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
         
-        // Get header and footer
-        String header = plugin.getConfigManager().getScoreboards().getString("tablist.header", "");
-        String footer = plugin.getConfigManager().getScoreboards().getString("tablist.footer", "");
-        
-        header = processPlaceholders(player, header);
-        footer = processPlaceholders(player, footer);
+        // Header and footer are shared by the audience, only sent when this player's copy changed
+        AudienceHeader audienceHeader = getAudienceHeader(ctfPlayer);
+        String header = applyPlayerPlaceholders(audienceHeader.header, player, ctfPlayer);
+        String footer = applyPlayerPlaceholders(audienceHeader.footer, player, ctfPlayer);
+        String sent = header + '\0' + footer;
+        if (!sent.equals(sentHeaders.get(player.getUniqueId()))) {
+            player.setPlayerListHeaderFooter(header, footer);
+            sentHeaders.put(player.getUniqueId(), sent);
+        }
         
-        // Set header and footer
-        player.setPlayerListHeaderFooter(header, footer);
+        // The list name is global, so it is refreshed once per target rather than once per viewer
+        updatePlayerListName(player, ctfPlayer);
         
         if (arenaIsolation) {
             updateArenaIsolatedTabList(player);
@@ -100,7 +143,6 @@ public class TabListManager {
         for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
             if (visiblePlayers.contains(onlinePlayer.getUniqueId())) {
                 player.showPlayer(plugin, onlinePlayer);
-                updatePlayerListName(player, onlinePlayer);
             } else {
                 player.hidePlayer(plugin, onlinePlayer);
             }
@@ -113,18 +155,15 @@ public class TabListManager {
     private void updateGlobalTabList(Player player) {
         for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
             player.showPlayer(plugin, onlinePlayer);
-            updatePlayerListName(player, onlinePlayer);
         }
     }
     
     /**
-     * Update player list name with formatting
+     * Update player list name with formatting, sent only when team, level or format changed the result
      */
-    private void updatePlayerListName(Player viewer, Player target) {
+    private void updatePlayerListName(Player target, CTFPlayer ctfPlayer) {
         String format = plugin.getConfigManager().getScoreboards().getString("tablist.format", "{team_prefix}{level_prefix}&f{player}");
         
-        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(target);
-        
         // Team prefix
         String teamPrefix = "";
         if (ctfPlayer != null && ctfPlayer.getTeam() != null) {
@@ -153,7 +192,10 @@ public class TabListManager {
                 .replace("{level}", ctfPlayer != null ? String.valueOf(ctfPlayer.getLevel()) : "1");
         
         displayName = ChatColor.translateAlternateColorCodes('&', displayName);
-        target.setPlayerListName(displayName);
+        if (!displayName.equals(sentListNames.get(target.getUniqueId()))) {
+            target.setPlayerListName(displayName);
+            sentListNames.put(target.getUniqueId(), displayName);
+        }
     }
     
     /**
@@ -179,6 +221,8 @@ public class TabListManager {
      */
     public void onPlayerQuit(Player player) {
         playerVisiblePlayers.remove(player.getUniqueId());
+        sentHeaders.remove(player.getUniqueId());
+        sentListNames.remove(player.getUniqueId());
         
         // Update tab list for all other players if arena isolation is enabled
         if (plugin.getConfigManager().getScoreboards().getBoolean("tablist.arena-isolation", true)) {
@@ -203,19 +247,52 @@ public class TabListManager {
     }
     
     /**
-     * Process placeholders in text
+     * Get the header and footer of the player's audience, rendering them once per update interval
      */
-    private String processPlaceholders(Player player, String text) {
-        CTFPlayer ctfPlayer = plugin.getGameManager().getCTFPlayer(player);
+    private AudienceHeader getAudienceHeader(CTFPlayer ctfPlayer) {
+        CTFGame game = ctfPlayer != null && ctfPlayer.isInGame() ? ctfPlayer.getGame() : null;
+        String audience = game != null ? game.getArena().getName() : "";
+        int currentTick = Bukkit.getCurrentTick();
+        
+        AudienceHeader cached = audienceHeaders.get(audience);
+        if (cached != null && currentTick - cached.renderedTick < updateInterval) {
+            return cached;
+        }
         
-        text = text.replace("{player}", player.getName());
-        text = text.replace("{level}", ctfPlayer != null ? String.valueOf(ctfPlayer.getLevel()) : "1");
+        String header = plugin.getConfigManager().getScoreboards().getString("tablist.header", "");
+        String footer = plugin.getConfigManager().getScoreboards().getString("tablist.footer", "");
+        AudienceHeader rendered = new AudienceHeader(renderShared(header), renderShared(footer), currentTick);
+        audienceHeaders.put(audience, rendered);
+        return rendered;
+    }
+    
+    /**
+     * Process placeholders shared by the whole audience
+     */
+    private AudienceText renderShared(String text) {
         text = text.replace("{online_players}", String.valueOf(Bukkit.getOnlinePlayers().size()));
         
-        // Process PlaceholderAPI placeholders
-        text = plugin.processPlaceholders(player, text);
+        // Anything left that PlaceholderAPI could resolve is player specific, such as %player_ping% or {vault_eco_balance}
+        String remaining = text.replace("{player}", "").replace("{level}", "");
+        if (plugin.isPlaceholderAPIEnabled() && (remaining.indexOf('%') >= 0 || remaining.indexOf('{') >= 0)) {
+            return new AudienceText(text, true);
+        }
+        
+        return new AudienceText(ChatColor.translateAlternateColorCodes('&', text), false);
+    }
+    
+    /**
+     * Fill in the per-player parts of a rendered header or footer
+     */
+    private String applyPlayerPlaceholders(AudienceText audienceText, Player player, CTFPlayer ctfPlayer) {
+        String text = audienceText.text.replace("{player}", player.getName())
+                .replace("{level}", ctfPlayer != null ? String.valueOf(ctfPlayer.getLevel()) : "1");
+        if (!audienceText.perPlayer) {
+            return text;
+        }
         
-        return ChatColor.translateAlternateColorCodes('&', text);
+        // Process PlaceholderAPI placeholders
+        return ChatColor.translateAlternateColorCodes('&', plugin.processPlaceholders(player, text));
     }
     
     /**
@@ -233,17 +310,8 @@ public class TabListManager {
         }
         
         playerVisiblePlayers.clear();
-    }
-    
-    /**
-     * Update task for periodic tab list updates
-     */
-    private class UpdateTask extends BukkitRunnable {
-        @Override
-        public void run() {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                updatePlayerTabList(player);
-            }
-        }
+        audienceHeaders.clear();
+        sentHeaders.clear();
+        sentListNames.clear();
     }
 }
\ No newline at end of file
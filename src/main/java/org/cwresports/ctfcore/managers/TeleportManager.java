@@ -0,0 +1,134 @@
+package org.cwresports.ctfcore.managers;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
+import org.cwresports.ctfcore.CTFCore;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Chunk-aware asynchronous teleport pipeline
+ * Loads the destination chunk first, teleports through Paper's teleportAsync and
+ * spreads bulk teleports over several ticks. Futures complete on the main thread
+ */
+public class TeleportManager {
+
+    private final CTFCore plugin;
+    private final Queue<PendingTeleport> queue;
+    private BukkitTask drainTask;
+
+    /**
+     * A teleport waiting for its turn in the staggered queue
+     */
+    private static class PendingTeleport {
+        private final Player player;
+        private final Location destination;
+        private final CompletableFuture<Boolean> future;
+
+        public PendingTeleport(Player player, Location destination) {
+            this.player = player;
+            this.destination = destination;
+            this.future = new CompletableFuture<>();
+        }
+    }
+
+    public TeleportManager(CTFCore plugin) {
+        this.plugin = plugin;
+        this.queue = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Teleport a player right away, loading the destination chunk asynchronously first
+     * The returned future completes with false if the player left or the teleport failed
+     */
+    public CompletableFuture<Boolean> teleport(Player player, Location destination) {
+        if (player == null || destination == null || destination.getWorld() == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        Location target = destination.clone();
+        return target.getWorld().getChunkAtAsync(target)
+                .thenCompose(chunk -> {
+                    if (!player.isOnline()) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    return player.teleportAsync(target, PlayerTeleportEvent.TeleportCause.PLUGIN);
+                })
+                .exceptionally(throwable -> {
+                    plugin.getLogger().warning("Teleport of " + player.getName() + " failed: " + throwable.getMessage());
+                    return false;
+                });
+    }
+
+    /**
+     * Queue a teleport that is spread over the following ticks together with other bulk teleports
+     */
+    public CompletableFuture<Boolean> queueTeleport(Player player, Location destination) {
+        if (player == null || destination == null || destination.getWorld() == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        PendingTeleport pending = new PendingTeleport(player, destination.clone());
+        queue.add(pending);
+        ensureDrainTask();
+        return pending.future;
+    }
+
+    /**
+     * Start the per-tick queue drain if it is not running
+     */
+    private void ensureDrainTask() {
+        if (drainTask != null && !drainTask.isCancelled()) {
+            return;
+        }
+
+        drainTask = new BukkitRunnable() {
+            @Override
+            public void run() {
+                int perTick = Math.max(1, plugin.getConfigManager().getMainConfig().getInt("teleport.max-per-tick", 4));
+
+                for (int i = 0; i < perTick; i++) {
+                    PendingTeleport pending = queue.poll();
+                    if (pending == null) {
+                        break;
+                    }
+
+                    teleport(pending.player, pending.destination)
+                            .whenComplete((success, throwable) -> pending.future.complete(throwable == null && Boolean.TRUE.equals(success)));
+                }
+
+                if (queue.isEmpty()) {
+                    cancel();
+                    drainTask = null;
+                }
+            }
+        }.runTaskTimer(plugin, 0L, 1L);
+    }
+
+    /**
+     * Get number of teleports waiting in the queue
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Shutdown cleanup
+     */
+    public void shutdown() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+
+        PendingTeleport pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.complete(false);
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class CTFFlag {
     private CTFPlayer carrier;
     private FlagState state;
     private Block flagBlock;
+    private long returnDeadline;
 
     public enum FlagState {
         AT_BASE,
@@ -68,6 +69,7 @@ public class CTFFlag {
     public void setCarrier(CTFPlayer carrier) {
         this.carrier = carrier;
         this.state = FlagState.CARRIED;
+        this.returnDeadline = 0;
         remove(); // Remove from world when carried
 
         if (carrier != null && carrier.getPlayer() != null) {
@@ -102,6 +104,7 @@ public class CTFFlag {
      */
     public void returnToBase() {
         this.carrier = null;
+        this.returnDeadline = 0;
         this.state = FlagState.AT_BASE;
         this.currentLocation = baseLocation.clone();
 
@@ -114,6 +117,20 @@ public class CTFFlag {
         spawn();
     }
 
+    /**
+     * Set the System.nanoTime deadline at which a dropped flag returns to base
+     */
+    public void setReturnDeadline(long returnDeadline) {
+        this.returnDeadline = returnDeadline;
+    }
+
+    /**
+     * Check if the flag is dropped and its return deadline has passed
+     */
+    public boolean isReturnDue(long now) {
+        return state == FlagState.DROPPED && returnDeadline != 0 && now - returnDeadline >= 0;
+    }
+
     /**
      * Check if flag is at its base location
      */
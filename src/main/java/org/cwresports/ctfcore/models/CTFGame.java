@@ -1,5 +1,8 @@
 package org.cwresports.ctfcore.models;
 
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -8,6 +11,8 @@ import org.cwresports.ctfcore.CTFCore;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents an active CTF game instance
@@ -18,26 +23,44 @@ public class CTFGame {
     private final Arena arena;
     private final CTFCore plugin;
     private final Set<CTFPlayer> players;
+    private final Set<CTFPlayer> playersView;
+    private final Map<Arena.TeamColor, CopyOnWriteArrayList<CTFPlayer>> teamMembers; // Updated on team assignment
+    private final Map<Arena.TeamColor, List<CTFPlayer>> teamMemberViews;
     private final Map<Arena.TeamColor, CTFFlag> flags;
     private final Map<Arena.TeamColor, Integer> scores;
     private final Map<Arena.TeamColor, Integer> teamKills; // Track kills per team
+    private final GamePositionCache positionCache;
+    private final CombatLedger combatLedger;
+    private final GameClock clock;
+    private final List<Component> pendingBroadcasts;
     private GameState state;
-    private int timeLeft;
 
     public CTFGame(Arena arena, CTFCore plugin) {
         this.arena = arena;
         this.plugin = plugin;
         this.players = ConcurrentHashMap.newKeySet();
+        this.playersView = Collections.unmodifiableSet(players);
+        this.teamMembers = new EnumMap<>(Arena.TeamColor.class);
+        this.teamMemberViews = new EnumMap<>(Arena.TeamColor.class);
         this.flags = new HashMap<>();
         this.scores = new HashMap<>();
         this.teamKills = new HashMap<>();
+        this.positionCache = new GamePositionCache();
+        this.combatLedger = new CombatLedger(
+                plugin.getConfigManager().getGameplaySetting("assist-window-seconds", 10) * 20,
+                plugin.getConfigManager().getGameplaySetting("assist-min-damage", 4));
         this.state = GameState.WAITING;
-        this.timeLeft = 0;
+        this.clock = new GameClock();
+        this.pendingBroadcasts = new ArrayList<>();
 
-        // Initialize team scores and kills
+        // Initialize team scores, kills and membership
         for (Arena.TeamColor team : Arena.TeamColor.values()) {
             scores.put(team, 0);
             teamKills.put(team, 0);
+
+            CopyOnWriteArrayList<CTFPlayer> members = new CopyOnWriteArrayList<>();
+            teamMembers.put(team, members);
+            teamMemberViews.put(team, Collections.unmodifiableList(members));
         }
 
         // Initialize flags
@@ -72,10 +95,12 @@ public class CTFGame {
     public void addPlayer(CTFPlayer player) {
         players.add(player);
         player.setGame(this);
+        updateTeamMembership(player, null, player.getTeam());
 
         // Check if arena is full (max 8 players)
         if (players.size() > 8) {
             players.remove(player);
+            updateTeamMembership(player, player.getTeam(), null);
             player.setGame(null);
 
             Map<String, String> placeholders = new HashMap<>();
@@ -87,6 +112,9 @@ public class CTFGame {
             return;
         }
 
+        plugin.getChatManager().joinArena(arena.getName(), player.getPlayerId(), player.getTeam());
+        combatLedger.slotOf(player.getPlayerId());
+
         // NO JOIN MESSAGES HERE - handled in GameManager to prevent duplicates
     }
 
@@ -95,7 +123,10 @@ public class CTFGame {
      */
     public void removePlayer(CTFPlayer player) {
         players.remove(player);
+        updateTeamMembership(player, player.getTeam(), null);
         player.setGame(null);
+        plugin.getChatManager().leaveArena(arena.getName(), player.getPlayerId(), player.getTeam());
+        combatLedger.removePlayer(player.getPlayerId());
 
         // Send leave message to OTHER players in the arena
         if (state == GameState.WAITING || state == GameState.STARTING || state == GameState.PLAYING) {
@@ -135,6 +166,7 @@ public class CTFGame {
         // Take the flag
         flag.setCarrier(player);
         player.setCarryingFlag(flag);
+        plugin.getPerformanceManager().increment("flag.taken");
 
         // Apply glowing effect through GameManager
         plugin.getGameManager().handleFlagTaken(player, flagTeam);
@@ -177,6 +209,7 @@ public class CTFGame {
         // Capture the flag
         flag.returnToBase();
         player.setCarryingFlag(null);
+        plugin.getPerformanceManager().increment("flag.captured");
 
         // Update score
         int newScore = scores.get(player.getTeam()) + 1;
@@ -225,6 +258,7 @@ public class CTFGame {
         // Return flag to base immediately
         flag.returnToBase();
         player.setCarryingFlag(null);
+        plugin.getPerformanceManager().increment("flag.returned");
 
         // Grant XP for flag return (addFlagReturn now grants XP automatically)
         player.addFlagReturn();
@@ -253,6 +287,7 @@ public class CTFGame {
         // Drop flag at player's location
         flag.dropAt(player.getPlayer().getLocation());
         player.setCarryingFlag(null);
+        plugin.getPerformanceManager().increment("flag.dropped");
 
         // Only show drop message to same world players
         Map<String, String> placeholders = new HashMap<>();
@@ -269,23 +304,32 @@ public class CTFGame {
     }
 
     /**
-     * Start flag return timer
+     * Start flag return timer, the deadline is checked by the shared game clock ticker
      */
     private void startFlagReturnTimer(CTFFlag flag) {
         int returnTime = plugin.getConfigManager().getGameplaySetting("flag-drop-return-timer-seconds", 5);
+        flag.setReturnDeadline(System.nanoTime() + TimeUnit.SECONDS.toNanos(returnTime));
+    }
 
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            if (!flag.isCarried() && !flag.isAtBase()) {
-                flag.returnToBase();
+    /**
+     * Return dropped flags whose return deadline has passed
+     */
+    public void checkFlagReturns(long now) {
+        for (CTFFlag flag : flags.values()) {
+            if (!flag.isReturnDue(now)) {
+                continue;
+            }
 
-                Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("team_name", flag.getTeam().getName());
-                placeholders.put("team_color", ChatColor.translateAlternateColorCodes('&', flag.getTeam().getColorCode()));
+            flag.returnToBase();
+            plugin.getPerformanceManager().increment("flag.returned");
 
-                broadcastMessageInWorld("flag-returned-clean", placeholders);
-                playSoundInWorld(plugin.getConfigManager().getSound("flag_returned"));
-            }
-        }, returnTime * 20L);
+            Map<String, String> placeholders = new HashMap<>();
+            placeholders.put("team_name", flag.getTeam().getName());
+            placeholders.put("team_color", ChatColor.translateAlternateColorCodes('&', flag.getTeam().getColorCode()));
+
+            broadcastMessageInWorld("flag-returned-clean", placeholders);
+            playSoundInWorld(plugin.getConfigManager().getSound("flag_returned"));
+        }
     }
 
     /**
@@ -299,7 +343,35 @@ public class CTFGame {
      * Broadcast message only to players in the same world as the arena
      */
     private void broadcastMessageInWorld(String messageKey, Map<String, String> placeholders) {
-        String message = plugin.getConfigManager().getMessage(messageKey, placeholders);
+        // Rendered once and shared by every recipient
+        Component message = plugin.getConfigManager().getMessageComponent(messageKey, placeholders);
+
+        // Under heavy load, messages of one tick are joined and sent as one chat packet on the next tick
+        if (plugin.getLoadGovernorManager().areBroadcastsCoalesced()) {
+            pendingBroadcasts.add(message);
+            if (pendingBroadcasts.size() == 1) {
+                plugin.getServer().getScheduler().runTask(plugin, this::flushBroadcasts);
+            }
+            return;
+        }
+
+        sendInWorld(message);
+    }
+
+    /**
+     * Send coalesced broadcasts as a single message
+     */
+    private void flushBroadcasts() {
+        if (pendingBroadcasts.isEmpty()) {
+            return;
+        }
+
+        Component message = Component.join(JoinConfiguration.newlines(), pendingBroadcasts);
+        pendingBroadcasts.clear();
+        sendInWorld(message);
+    }
+
+    private void sendInWorld(Component message) {
         World arenaWorld = arena.getWorld();
 
         for (CTFPlayer ctfPlayer : players) {
@@ -334,12 +406,33 @@ public class CTFGame {
     }
 
     /**
-     * Get players on a specific team
+     * Move a player between team membership lists (called when a team is assigned)
+     */
+    public void updateTeamMembership(CTFPlayer player, Arena.TeamColor oldTeam, Arena.TeamColor newTeam) {
+        if (oldTeam != null) {
+            teamMembers.get(oldTeam).remove(player);
+        }
+        boolean member = players.contains(player);
+        if (newTeam != null && member) {
+            teamMembers.get(newTeam).addIfAbsent(player);
+        }
+        plugin.getChatManager().setTeam(arena.getName(), player.getPlayerId(), oldTeam, member ? newTeam : null);
+    }
+
+    /**
+     * Get players on a specific team as a read-only view
      */
     public List<CTFPlayer> getPlayersOnTeam(Arena.TeamColor team) {
-        return players.stream()
-                .filter(player -> player.getTeam() == team)
-                .toList();
+        List<CTFPlayer> members = teamMemberViews.get(team);
+        return members != null ? members : Collections.emptyList();
+    }
+
+    /**
+     * Get number of players on a specific team
+     */
+    public int getTeamSize(Arena.TeamColor team) {
+        List<CTFPlayer> members = teamMembers.get(team);
+        return members != null ? members.size() : 0;
     }
 
     /**
@@ -356,6 +449,37 @@ public class CTFGame {
         teamKills.put(team, teamKills.get(team) + 1);
     }
 
+    /**
+     * Announce a kill streak milestone to players in the arena world
+     */
+    public void announceKillStreak(CTFPlayer player, int streak) {
+        String messageKey;
+        switch (streak) {
+            case 3:
+                messageKey = "killstreak-spree";
+                break;
+            case 5:
+                messageKey = "killstreak-rampage";
+                break;
+            case 7:
+                messageKey = "killstreak-dominating";
+                break;
+            case 10:
+                messageKey = "killstreak-unstoppable";
+                break;
+            case 15:
+                messageKey = "killstreak-legendary";
+                break;
+            default:
+                return;
+        }
+
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("player", player.getPlayer() != null ? player.getPlayer().getName() : "Unknown");
+        placeholders.put("streak", String.valueOf(streak));
+        broadcastMessageInWorld(messageKey, placeholders);
+    }
+
     /**
      * Get team kill counts
      */
@@ -363,6 +487,13 @@ public class CTFGame {
         return new HashMap<>(teamKills);
     }
 
+    /**
+     * Get the kill count of one team without copying the map
+     */
+    public int getTeamKill(Arena.TeamColor team) {
+        return teamKills.getOrDefault(team, 0);
+    }
+
     /**
      * Get team with most kills (null if tied)
      */
@@ -444,6 +575,7 @@ public class CTFGame {
      * Get formatted time left string
      */
     public String getFormattedTimeLeft() {
+        int timeLeft = clock.getSecondsLeft();
         int minutes = timeLeft / 60;
         int seconds = timeLeft % 60;
         return String.format("%02d:%02d", minutes, seconds);
@@ -455,8 +587,12 @@ public class CTFGame {
         return arena;
     }
 
+    /**
+     * Get a read-only view of the players in this game
+     * Copy it before iterating if the loop may add or remove players
+     */
     public Set<CTFPlayer> getPlayers() {
-        return new HashSet<>(players);
+        return playersView;
     }
 
     public GameState getState() {
@@ -467,12 +603,22 @@ public class CTFGame {
         this.state = state;
     }
 
+    /**
+     * Remaining seconds, derived from the clock deadline
+     */
     public int getTimeLeft() {
-        return timeLeft;
+        return clock.getSecondsLeft();
+    }
+
+    /**
+     * Start the game clock counting down from the given number of seconds
+     */
+    public void startClock(int seconds) {
+        clock.start(seconds, System.nanoTime(), Bukkit.getCurrentTick());
     }
 
-    public void setTimeLeft(int timeLeft) {
-        this.timeLeft = timeLeft;
+    public GameClock getClock() {
+        return clock;
     }
 
     public CTFFlag getFlag(Arena.TeamColor team) {
@@ -482,4 +628,12 @@ public class CTFGame {
     public int getScore(Arena.TeamColor team) {
         return scores.getOrDefault(team, 0);
     }
+
+    public GamePositionCache getPositionCache() {
+        return positionCache;
+    }
+
+    public CombatLedger getCombatLedger() {
+        return combatLedger;
+    }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package org.cwresports.ctfcore.models;
 
 import org.bukkit.entity.Player;
 import org.cwresports.ctfcore.CTFCore;
+import org.cwresports.ctfcore.managers.HudManager;
 
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -13,6 +15,7 @@ import java.util.UUID;
 public class CTFPlayer {
 
     private final UUID playerId;
+    private volatile WeakReference<Player> playerHandle;
     private CTFGame game;
     private Arena.TeamColor team;
     private CTFFlag carryingFlag;
@@ -20,6 +23,7 @@ public class CTFPlayer {
     // Game session statistics
     private int kills;
     private int deaths;
+    private int assists;
     private int captures;
     private int flagReturns;
 
@@ -37,17 +41,22 @@ public class CTFPlayer {
     private boolean alive;
     private long lastRespawnTime;
 
+    // Transient per-player state, torn down when the player leaves the game or disconnects
+    private final PlayerSession session = new PlayerSession();
+
     public CTFPlayer(Player player) {
         this(player, 1, 0);
     }
 
     public CTFPlayer(Player player, int level, int experience) {
         this.playerId = player.getUniqueId();
+        this.playerHandle = new WeakReference<>(player);
         this.level = level;
         this.experience = experience;
         this.alive = true;
         this.kills = 0;
         this.deaths = 0;
+        this.assists = 0;
         this.captures = 0;
         this.flagReturns = 0;
         this.totalKills = 0;
@@ -61,6 +70,7 @@ public class CTFPlayer {
 
     public CTFPlayer(Player player, Map<String, Object> data) {
         this.playerId = player.getUniqueId();
+        this.playerHandle = new WeakReference<>(player);
         this.level = (Integer) data.getOrDefault("level", 1);
         this.experience = (Integer) data.getOrDefault("experience", 0);
         this.totalKills = (Integer) data.getOrDefault("total_kills", 0);
@@ -72,6 +82,7 @@ public class CTFPlayer {
         this.alive = true;
         this.kills = 0;
         this.deaths = 0;
+        this.assists = 0;
         this.captures = 0;
         this.flagReturns = 0;
         this.lastRespawnTime = System.currentTimeMillis();
@@ -79,9 +90,34 @@ public class CTFPlayer {
 
     /**
      * Get the Bukkit Player object
+     * Uses the cached handle while its connection is still alive, otherwise falls back to a UUID lookup
      */
     public Player getPlayer() {
-        return org.bukkit.Bukkit.getPlayer(playerId);
+        WeakReference<Player> handle = playerHandle;
+        Player cached = handle != null ? handle.get() : null;
+        if (cached != null && cached.isConnected()) {
+            return cached;
+        }
+
+        Player player = org.bukkit.Bukkit.getPlayer(playerId);
+        playerHandle = player != null ? new WeakReference<>(player) : null;
+        return player;
+    }
+
+    /**
+     * Attach the current Player instance (called on join and reconnection)
+     */
+    public void attachPlayer(Player player) {
+        if (player != null && player.getUniqueId().equals(playerId)) {
+            this.playerHandle = new WeakReference<>(player);
+        }
+    }
+
+    /**
+     * Drop the cached Player instance (called on quit)
+     */
+    public void detachPlayer() {
+        this.playerHandle = null;
     }
 
     /**
@@ -131,6 +167,16 @@ public class CTFPlayer {
         addExperience(xpPerKill);
     }
 
+    /**
+     * Add an assist to player stats and grant XP
+     */
+    public void addAssist() {
+        assists++;
+
+        int xpPerAssist = CTFCore.getInstance().getConfigManager().getGameplaySetting("experience.per-assist", 5);
+        addExperience(xpPerAssist);
+    }
+
     /**
      * Add a death to player stats
      */
@@ -189,6 +235,7 @@ public class CTFPlayer {
         if (experience >= xpRequired) {
             level++;
             experience -= xpRequired;
+            CTFCore.getInstance().getChatManager().updateLevel(playerId, level);
 
             Player player = getPlayer();
             if (player != null && player.isOnline()) {
@@ -196,7 +243,7 @@ public class CTFPlayer {
                 placeholders.put("level", String.valueOf(level));
 
                 player.sendMessage(CTFCore.getInstance().getConfigManager().getMessage("level-up", placeholders));
-                CTFCore.getInstance().getMessageManager().sendTitle(player, "title-level-up", null, placeholders);
+                CTFCore.getInstance().getMessageManager().sendTitle(player, "title-level-up", null, placeholders, HudManager.Priority.HIGH);
                 player.playSound(player.getLocation(),
                         CTFCore.getInstance().getConfigManager().getSound("level_up"), 1.0f, 1.0f);
             }
@@ -268,6 +315,7 @@ public class CTFPlayer {
     public void resetStats() {
         kills = 0;
         deaths = 0;
+        assists = 0;
         captures = 0;
         flagReturns = 0;
     }
@@ -299,7 +347,13 @@ public class CTFPlayer {
     }
 
     public void setTeam(Arena.TeamColor team) {
+        Arena.TeamColor previousTeam = this.team;
         this.team = team;
+
+        // Keep the game's team membership lists in sync
+        if (game != null && previousTeam != team) {
+            game.updateTeamMembership(this, previousTeam, team);
+        }
     }
 
     public CTFFlag getCarryingFlag() {
@@ -327,6 +381,10 @@ public class CTFPlayer {
         return flagReturns;
     }
 
+    public int getAssists() {
+        return assists;
+    }
+
     // Persistent progression
     public int getLevel() {
         return level;
@@ -364,6 +422,10 @@ public class CTFPlayer {
         return lastRespawnTime;
     }
 
+    public PlayerSession getSession() {
+        return session;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,42 @@
+package org.cwresports.ctfcore.models;
+
+import org.bukkit.Location;
+
+/**
+ * Represents an active capture attempt for timed flag capture
+ */
+public class CaptureAttempt {
+
+    private final Location capturePoint;
+    private final Arena.TeamColor flagTeam;
+    private final long startTime;
+    private final int captureTimeSeconds;
+    private final double captureRadius;
+
+    public CaptureAttempt(Location capturePoint, Arena.TeamColor flagTeam, int captureTimeSeconds, double captureRadius) {
+        this.capturePoint = capturePoint;
+        this.flagTeam = flagTeam;
+        this.startTime = System.currentTimeMillis();
+        this.captureTimeSeconds = captureTimeSeconds;
+        this.captureRadius = captureRadius;
+    }
+
+    public Location getCapturePoint() { return capturePoint; }
+    public Arena.TeamColor getFlagTeam() { return flagTeam; }
+    public long getStartTime() { return startTime; }
+    public int getCaptureTimeSeconds() { return captureTimeSeconds; }
+    public double getCaptureRadius() { return captureRadius; }
+
+    public boolean isInArea(Location playerLocation) {
+        return playerLocation.distance(capturePoint) <= captureRadius;
+    }
+
+    public int getTimeRemaining() {
+        long elapsed = System.currentTimeMillis() - startTime;
+        return Math.max(0, captureTimeSeconds - (int) (elapsed / 1000));
+    }
+
+    public boolean isCompleted() {
+        return getTimeRemaining() <= 0;
+    }
+}
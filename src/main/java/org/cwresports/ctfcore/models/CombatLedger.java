@@ -0,0 +1,233 @@
+package org.cwresports.ctfcore.models;
+
+import java.util.*;
+
+/**
+ * Per-game combat bookkeeping in primitive arrays indexed by player slot
+ * Every victim keeps a small ring buffer of recent hits used to attribute kills and assists,
+ * recording a hit does not allocate
+ */
+public class CombatLedger {
+
+    private static final int HISTORY_SIZE = 8;
+    private static final int NO_SLOT = -1;
+
+    private final int assistWindowTicks;
+    private final double minAssistDamage;
+    private final Map<UUID, Integer> slots = new HashMap<>();
+
+    // Per slot statistics
+    private UUID[] playerIds = new UUID[16];
+    private int[] kills = new int[16];
+    private int[] deaths = new int[16];
+    private int[] assists = new int[16];
+    private int[] streaks = new int[16];
+    private int[] bestStreaks = new int[16];
+    private double[] damageDealt = new double[16];
+    private double[] damageTaken = new double[16];
+
+    // Ring buffer of recent hits per victim, HISTORY_SIZE entries per slot
+    private int[] hitAttackers = new int[16 * HISTORY_SIZE];
+    private double[] hitDamage = new double[16 * HISTORY_SIZE];
+    private int[] hitTicks = new int[16 * HISTORY_SIZE];
+    private int[] hitHeads = new int[16];
+    private int size = 0;
+
+    // Scratch space for summing damage per attacker when a victim dies
+    private final int[] scratchAttackers = new int[HISTORY_SIZE];
+    private final double[] scratchDamage = new double[HISTORY_SIZE];
+
+    public CombatLedger(int assistWindowTicks, double minAssistDamage) {
+        this.assistWindowTicks = assistWindowTicks;
+        this.minAssistDamage = minAssistDamage;
+    }
+
+    /**
+     * Get the slot of a player, assigning one on first use
+     * Slots are kept for the whole game so a player who rejoins keeps their statistics
+     */
+    public int slotOf(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot != null) {
+            return slot;
+        }
+
+        ensureCapacity(size + 1);
+        playerIds[size] = playerId;
+        Arrays.fill(hitAttackers, size * HISTORY_SIZE, (size + 1) * HISTORY_SIZE, NO_SLOT);
+        slots.put(playerId, size);
+        return size++;
+    }
+
+    /**
+     * Grow the backing arrays when more players are tracked than fit
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= playerIds.length) {
+            return;
+        }
+
+        int newLength = Math.max(capacity, playerIds.length * 2);
+        playerIds = Arrays.copyOf(playerIds, newLength);
+        kills = Arrays.copyOf(kills, newLength);
+        deaths = Arrays.copyOf(deaths, newLength);
+        assists = Arrays.copyOf(assists, newLength);
+        streaks = Arrays.copyOf(streaks, newLength);
+        bestStreaks = Arrays.copyOf(bestStreaks, newLength);
+        damageDealt = Arrays.copyOf(damageDealt, newLength);
+        damageTaken = Arrays.copyOf(damageTaken, newLength);
+        hitAttackers = Arrays.copyOf(hitAttackers, newLength * HISTORY_SIZE);
+        hitDamage = Arrays.copyOf(hitDamage, newLength * HISTORY_SIZE);
+        hitTicks = Arrays.copyOf(hitTicks, newLength * HISTORY_SIZE);
+        hitHeads = Arrays.copyOf(hitHeads, newLength);
+    }
+
+    /**
+     * Record a hit of one player on another
+     */
+    public void recordDamage(UUID victimId, UUID attackerId, double damage, int tick) {
+        int victim = slotOf(victimId);
+        int attacker = slotOf(attackerId);
+
+        damageTaken[victim] += damage;
+        damageDealt[attacker] += damage;
+
+        int index = victim * HISTORY_SIZE + hitHeads[victim];
+        hitAttackers[index] = attacker;
+        hitDamage[index] = damage;
+        hitTicks[index] = tick;
+        hitHeads[victim] = (hitHeads[victim] + 1) % HISTORY_SIZE;
+    }
+
+    /**
+     * Get the player who hit the victim last within the assist window, or null
+     */
+    public UUID getLastAttacker(UUID victimId, int tick) {
+        Integer victim = slots.get(victimId);
+        if (victim == null) {
+            return null;
+        }
+
+        int base = victim * HISTORY_SIZE;
+        int index = base + (hitHeads[victim] + HISTORY_SIZE - 1) % HISTORY_SIZE;
+        if (hitAttackers[index] == NO_SLOT || tick - hitTicks[index] > assistWindowTicks) {
+            return null;
+        }
+        return playerIds[hitAttackers[index]];
+    }
+
+    /**
+     * Record a death, crediting the killer and every other recent attacker above the assist threshold
+     * Resets the victim's streak and hit history, and returns the assisting players
+     */
+    public List<UUID> recordDeath(UUID victimId, UUID killerId, int tick) {
+        int victim = slotOf(victimId);
+        int killer = killerId != null ? slotOf(killerId) : NO_SLOT;
+
+        deaths[victim]++;
+        streaks[victim] = 0;
+
+        if (killer != NO_SLOT && killer != victim) {
+            kills[killer]++;
+            streaks[killer]++;
+            bestStreaks[killer] = Math.max(bestStreaks[killer], streaks[killer]);
+        }
+
+        // Sum recent damage per attacker
+        int attackerCount = 0;
+        int base = victim * HISTORY_SIZE;
+        for (int i = base; i < base + HISTORY_SIZE; i++) {
+            int attacker = hitAttackers[i];
+            if (attacker == NO_SLOT || attacker == killer || attacker == victim || tick - hitTicks[i] > assistWindowTicks) {
+                continue;
+            }
+
+            int entry = 0;
+            while (entry < attackerCount && scratchAttackers[entry] != attacker) {
+                entry++;
+            }
+            if (entry == attackerCount) {
+                scratchAttackers[attackerCount] = attacker;
+                scratchDamage[attackerCount] = 0;
+                attackerCount++;
+            }
+            scratchDamage[entry] += hitDamage[i];
+        }
+
+        List<UUID> assisting = attackerCount > 0 ? new ArrayList<>(attackerCount) : Collections.emptyList();
+        for (int i = 0; i < attackerCount; i++) {
+            if (scratchDamage[i] >= minAssistDamage) {
+                assists[scratchAttackers[i]]++;
+                assisting.add(playerIds[scratchAttackers[i]]);
+            }
+        }
+
+        clearHistory(victim);
+        return assisting;
+    }
+
+    /**
+     * Reset the streak and hit history of a player leaving the game, their totals are kept for the summary
+     */
+    public void removePlayer(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        if (slot != null) {
+            streaks[slot] = 0;
+            clearHistory(slot);
+        }
+    }
+
+    private void clearHistory(int slot) {
+        Arrays.fill(hitAttackers, slot * HISTORY_SIZE, (slot + 1) * HISTORY_SIZE, NO_SLOT);
+        hitHeads[slot] = 0;
+    }
+
+    /**
+     * Get the slot with the most kills, or -1 if nobody has a kill
+     */
+    public int getTopKillerSlot() {
+        int best = NO_SLOT;
+        for (int slot = 0; slot < size; slot++) {
+            if (kills[slot] > 0 && (best == NO_SLOT || kills[slot] > kills[best])) {
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public UUID getPlayerId(int slot) {
+        return playerIds[slot];
+    }
+
+    public int getKills(int slot) {
+        return kills[slot];
+    }
+
+    public int getDeaths(int slot) {
+        return deaths[slot];
+    }
+
+    public int getAssists(int slot) {
+        return assists[slot];
+    }
+
+    public int getStreak(int slot) {
+        return streaks[slot];
+    }
+
+    public int getBestStreak(int slot) {
+        return bestStreaks[slot];
+    }
+
+    public double getDamageDealt(int slot) {
+        return damageDealt[slot];
+    }
+
+    public double getDamageTaken(int slot) {
+        return damageTaken[slot];
+    }
+}
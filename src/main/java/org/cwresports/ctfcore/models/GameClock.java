@@ -0,0 +1,107 @@
+package org.cwresports.ctfcore.models;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Countdown clock against a System.nanoTime deadline, so remaining time stays correct when ticks run late
+ * Also measures how far the server's tick count fell behind wall time, which is the drift the clock compensated
+ */
+public class GameClock {
+
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private long startNanos;
+    private long deadlineNanos;
+    private long durationNanos;
+    private int startTick;
+    private long frozenNanos;
+    private int lastSecond = -1;
+    private boolean running;
+
+    /**
+     * Start counting down from the given number of seconds
+     */
+    public void start(int seconds, long now, int currentTick) {
+        startNanos = now;
+        durationNanos = TimeUnit.SECONDS.toNanos(seconds);
+        deadlineNanos = now + durationNanos;
+        startTick = currentTick;
+        lastSecond = -1;
+        running = true;
+    }
+
+    /**
+     * Stop the clock, remaining time stays at its current value until it is started again
+     */
+    public void stop(long now) {
+        frozenNanos = getRemainingNanos(now);
+        running = false;
+        lastSecond = -1;
+    }
+
+    /**
+     * Move the deadline back, used to hold a countdown while the arena is still loading
+     * The displayed second is moved along so the hold does not count as a new second
+     */
+    public void extend(int seconds) {
+        deadlineNanos += TimeUnit.SECONDS.toNanos(seconds);
+        durationNanos += TimeUnit.SECONDS.toNanos(seconds);
+        if (lastSecond >= 0) {
+            lastSecond += seconds;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getRemainingNanos(long now) {
+        return running ? Math.max(0, deadlineNanos - now) : frozenNanos;
+    }
+
+    /**
+     * Remaining whole seconds, rounded up so the display reads 0 only once the deadline has passed
+     */
+    public int getSecondsLeft(long now) {
+        long remaining = getRemainingNanos(now);
+        return (int) ((remaining + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public int getSecondsLeft() {
+        return getSecondsLeft(System.nanoTime());
+    }
+
+    /**
+     * Record the displayed second, returns true when it differs from the previous call
+     */
+    public boolean advanceSecond(int second) {
+        if (second == lastSecond) {
+            return false;
+        }
+        lastSecond = second;
+        return true;
+    }
+
+    /**
+     * Total length of the clock in seconds, including extensions
+     */
+    public int getDurationSeconds() {
+        return (int) TimeUnit.NANOSECONDS.toSeconds(durationNanos);
+    }
+
+    /**
+     * Wall time minus tick time since the clock started, in milliseconds
+     * A tick-counting timer would have run late by this much
+     */
+    public long getDriftMillis(long now, int currentTick) {
+        if (!running) {
+            return 0;
+        }
+        long tickNanos = (currentTick - startTick) * NANOS_PER_TICK;
+        return TimeUnit.NANOSECONDS.toMillis((now - startNanos) - tickNanos);
+    }
+
+    public long getElapsedMillis(long now) {
+        return running ? TimeUnit.NANOSECONDS.toMillis(now - startNanos) : 0;
+    }
+}
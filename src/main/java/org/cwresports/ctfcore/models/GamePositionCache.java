@@ -0,0 +1,114 @@
+package org.cwresports.ctfcore.models;
+
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Per-game snapshot of live player positions, refreshed once per tick
+ * Lets spawn scoring and other proximity checks avoid repeated player lookups and location clones
+ */
+public class GamePositionCache {
+
+    private UUID[] playerIds = new UUID[16];
+    private Arena.TeamColor[] teams = new Arena.TeamColor[16];
+    private boolean[] flagCarriers = new boolean[16];
+    private double[] xs = new double[16];
+    private double[] ys = new double[16];
+    private double[] zs = new double[16];
+    private int size = 0;
+    private World world;
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    /**
+     * Rebuild the snapshot from the game's current players
+     * Only alive, online players standing in the arena world are recorded
+     */
+    public void refresh(CTFGame game) {
+        world = game.getArena().getWorld();
+        size = 0;
+
+        if (world == null) {
+            return;
+        }
+
+        for (CTFPlayer ctfPlayer : game.getPlayers()) {
+            Player player = ctfPlayer.getPlayer();
+            if (player == null || !player.isOnline() || !ctfPlayer.isAlive() ||
+                    player.getGameMode() == GameMode.SPECTATOR || !player.getWorld().equals(world)) {
+                continue;
+            }
+
+            ensureCapacity(size + 1);
+            player.getLocation(scratch);
+
+            playerIds[size] = ctfPlayer.getPlayerId();
+            teams[size] = ctfPlayer.getTeam();
+            flagCarriers[size] = ctfPlayer.hasFlag();
+            xs[size] = scratch.getX();
+            ys[size] = scratch.getY();
+            zs[size] = scratch.getZ();
+            size++;
+        }
+    }
+
+    /**
+     * Grow the backing arrays when more players are tracked than fit
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= xs.length) {
+            return;
+        }
+
+        int newLength = Math.max(capacity, xs.length * 2);
+        playerIds = Arrays.copyOf(playerIds, newLength);
+        teams = Arrays.copyOf(teams, newLength);
+        flagCarriers = Arrays.copyOf(flagCarriers, newLength);
+        xs = Arrays.copyOf(xs, newLength);
+        ys = Arrays.copyOf(ys, newLength);
+        zs = Arrays.copyOf(zs, newLength);
+    }
+
+    /**
+     * Clear the snapshot
+     */
+    public void clear() {
+        Arrays.fill(playerIds, 0, size, null);
+        Arrays.fill(teams, 0, size, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public UUID getPlayerId(int index) {
+        return playerIds[index];
+    }
+
+    public Arena.TeamColor getTeam(int index) {
+        return teams[index];
+    }
+
+    public boolean isFlagCarrier(int index) {
+        return flagCarriers[index];
+    }
+
+    /**
+     * Squared distance between a cached player and a location
+     */
+    public double distanceSquared(int index, Location location) {
+        double dx = xs[index] - location.getX();
+        double dy = ys[index] - location.getY();
+        double dz = zs[index] - location.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
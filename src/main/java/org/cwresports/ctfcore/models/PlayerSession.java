@@ -0,0 +1,171 @@
+package org.cwresports.ctfcore.models;
+
+import org.bukkit.Location;
+import org.bukkit.boss.BossBar;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Transient per-player state of an in-game player, owned by its CTFPlayer
+ * Listeners and managers reach it through the single CTFPlayer lookup they already do,
+ * and close() tears all of it down in one place when the player leaves or disconnects
+ */
+public class PlayerSession {
+
+    // Rough shallow sizes with compressed oops, used for memory reporting only
+    private static final int SESSION_BYTES = 64;
+    private static final int LOCATION_BYTES = 56;
+    private static final int CAPTURE_ATTEMPT_BYTES = 40 + LOCATION_BYTES;
+    private static final int TASK_BYTES = 96;
+    private static final int BOSS_BAR_BYTES = 256;
+
+    // Spawn protection, end time 0 when not protected
+    private long spawnProtectionEnd;
+    private BossBar spawnProtectionBar;
+    private BukkitTask spawnProtectionTask;
+
+    // Respawn countdown
+    private BukkitTask respawnTask;
+
+    // Movement, bit per movement zone the player is inside of, owned by PlayerMoveListener
+    private long movementZones;
+    private CaptureAttempt captureAttempt;
+    private long lastFlagTakeTime;
+
+    // Right-click flag interaction
+    private Location interactionTarget;
+    private BukkitTask interactionTask;
+
+    /**
+     * Remove the spawn protection boss bar and stop its countdown
+     */
+    public void clearSpawnProtectionBar() {
+        if (spawnProtectionTask != null) {
+            spawnProtectionTask.cancel();
+            spawnProtectionTask = null;
+        }
+        if (spawnProtectionBar != null) {
+            spawnProtectionBar.removeAll();
+            spawnProtectionBar = null;
+        }
+    }
+
+    /**
+     * Cancel the respawn countdown, returns true if one was running
+     */
+    public boolean cancelRespawnTask() {
+        if (respawnTask == null) {
+            return false;
+        }
+        respawnTask.cancel();
+        respawnTask = null;
+        return true;
+    }
+
+    /**
+     * Cancel the right-click interaction, returns true if one was running
+     */
+    public boolean clearInteraction() {
+        if (interactionTarget == null) {
+            return false;
+        }
+        if (interactionTask != null) {
+            interactionTask.cancel();
+        }
+        interactionTarget = null;
+        interactionTask = null;
+        return true;
+    }
+
+    /**
+     * Cancel every task and release every resource held for the player
+     */
+    public void close() {
+        clearSpawnProtectionBar();
+        cancelRespawnTask();
+        clearInteraction();
+        spawnProtectionEnd = 0;
+        movementZones = 0;
+        captureAttempt = null;
+        lastFlagTakeTime = 0;
+    }
+
+    /**
+     * Estimated retained size of the session and what it currently holds, in bytes
+     */
+    public long estimateBytes() {
+        long bytes = SESSION_BYTES;
+        if (spawnProtectionBar != null) bytes += BOSS_BAR_BYTES;
+        if (spawnProtectionTask != null) bytes += TASK_BYTES;
+        if (respawnTask != null) bytes += TASK_BYTES;
+        if (captureAttempt != null) bytes += CAPTURE_ATTEMPT_BYTES;
+        if (interactionTarget != null) bytes += LOCATION_BYTES;
+        if (interactionTask != null) bytes += TASK_BYTES;
+        return bytes;
+    }
+
+    public boolean isSpawnProtected() {
+        return spawnProtectionEnd != 0;
+    }
+
+    public long getSpawnProtectionEnd() {
+        return spawnProtectionEnd;
+    }
+
+    public void setSpawnProtectionEnd(long spawnProtectionEnd) {
+        this.spawnProtectionEnd = spawnProtectionEnd;
+    }
+
+    public BossBar getSpawnProtectionBar() {
+        return spawnProtectionBar;
+    }
+
+    public void setSpawnProtectionBar(BossBar spawnProtectionBar, BukkitTask spawnProtectionTask) {
+        this.spawnProtectionBar = spawnProtectionBar;
+        this.spawnProtectionTask = spawnProtectionTask;
+    }
+
+    public BukkitTask getRespawnTask() {
+        return respawnTask;
+    }
+
+    public void setRespawnTask(BukkitTask respawnTask) {
+        this.respawnTask = respawnTask;
+    }
+
+    public long getMovementZones() {
+        return movementZones;
+    }
+
+    public void setMovementZones(long movementZones) {
+        this.movementZones = movementZones;
+    }
+
+    public CaptureAttempt getCaptureAttempt() {
+        return captureAttempt;
+    }
+
+    public void setCaptureAttempt(CaptureAttempt captureAttempt) {
+        this.captureAttempt = captureAttempt;
+    }
+
+    public long getLastFlagTakeTime() {
+        return lastFlagTakeTime;
+    }
+
+    public void setLastFlagTakeTime(long lastFlagTakeTime) {
+        this.lastFlagTakeTime = lastFlagTakeTime;
+    }
+
+    public Location getInteractionTarget() {
+        return interactionTarget;
+    }
+
+    public BukkitTask getInteractionTask() {
+        return interactionTask;
+    }
+
+    public void setInteraction(Location interactionTarget, BukkitTask interactionTask) {
+        this.interactionTarget = interactionTarget;
+        this.interactionTask = interactionTask;
+    }
+}